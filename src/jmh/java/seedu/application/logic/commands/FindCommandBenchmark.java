@@ -0,0 +1,71 @@
+package seedu.application.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.application.logic.parser.FindCommandParser;
+import seedu.application.logic.parser.QueryParser;
+import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.Model;
+import seedu.application.model.ModelManager;
+import seedu.application.model.UserPrefs;
+import seedu.application.model.query.Query;
+import seedu.application.model.query.QueryResult;
+import seedu.application.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks finding applications among {@code size} synthetic applications.
+ * {@link #executeFindCommand()} runs a find command through a {@code ModelManager}, which answers repeated queries
+ * from its query cache, while {@link #executeQuery()} looks the matches up in the indexes every time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"senior", "kota*", "grafe~ engineer", "c/ri* AND p/engineer AND d/>=2022-01-01 NOT e/*@mail.com"})
+    private String arguments;
+
+    private ApplicationBook applicationBook;
+    private Model model;
+    private FindCommand findCommand;
+    private Query query;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ParseException {
+        applicationBook = new SyntheticDataGenerator().generateApplicationBook(size);
+        model = new ModelManager(applicationBook, new UserPrefs());
+        findCommand = new FindCommandParser().parse(" " + arguments);
+        query = new QueryParser().parse(arguments);
+    }
+
+    @Benchmark
+    public CommandResult executeFindCommand() {
+        return findCommand.execute(model);
+    }
+
+    @Benchmark
+    public QueryResult executeQuery() {
+        return query.execute(applicationBook);
+    }
+
+}
@@ -0,0 +1,47 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_POSITION;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the tokenizing of command arguments into prefixed values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({" c/Google ct/11111111 d/2022-01-01 e/google@example.com p/Software Engineer",
+        " 1 p/Senior Backend Engineer d/2023-03-01",
+        " c/Jane Street c/Jane Street Capital p/Quant Researcher p/Quant Trader e/a@b.com e/c@d.com"})
+    private String args;
+
+    /**
+     * Tokenizes the arguments with all the prefixes of an add command.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(args, PREFIX_COMPANY, PREFIX_CONTACT, PREFIX_DATE, PREFIX_EMAIL,
+                PREFIX_POSITION);
+    }
+
+}
@@ -0,0 +1,89 @@
+package seedu.application.model.application;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.application.model.util.SyntheticDataGenerator;
+import seedu.application.testutil.ApplicationBuilder;
+
+/**
+ * Benchmarks the operations of a {@code UniqueApplicationList} holding {@code size} applications.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueApplicationListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Application> applications;
+    private UniqueApplicationList uniqueApplicationList;
+    private Application present;
+    private Application absent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applications = new SyntheticDataGenerator().generate(size + 1);
+        absent = applications.remove(size);
+        present = applications.get(size / 2);
+        uniqueApplicationList = new UniqueApplicationList();
+        uniqueApplicationList.setApplications(applications);
+    }
+
+    /**
+     * Adds an application and removes it again, so that every invocation adds to a list of {@code size}.
+     */
+    @Benchmark
+    public UniqueApplicationList addAndRemove() {
+        uniqueApplicationList.add(absent);
+        uniqueApplicationList.remove(absent);
+        return uniqueApplicationList;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return uniqueApplicationList.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniqueApplicationList.contains(absent);
+    }
+
+    /**
+     * Checks an application with the identity of one in the list but different details, which is not equal to it.
+     */
+    @Benchmark
+    public boolean containsSameIdentity() {
+        return uniqueApplicationList.contains(new ApplicationBuilder(present).withContact("999").build());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public UniqueApplicationList setApplications() {
+        UniqueApplicationList replacement = new UniqueApplicationList();
+        replacement.setApplications(applications);
+        return replacement;
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.application.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.ReadOnlyApplicationBook;
+import seedu.application.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks saving and reading an application book of {@code size} synthetic applications to and from a
+ * temporary json file. Each invocation is timed on its own, as a save or read of a large book takes seconds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JsonApplicationBookStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean isCompact;
+
+    private ApplicationBook applicationBook;
+    private Path filePath;
+    private JsonApplicationBookStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        applicationBook = new SyntheticDataGenerator().generateApplicationBook(size);
+        filePath = Files.createTempFile("applicationbook", ".json");
+        storage = new JsonApplicationBookStorage(filePath, isCompact, false);
+        storage.saveApplicationBook(applicationBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Saves the application book over the file written by the previous invocation.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveApplicationBook(applicationBook);
+        return filePath;
+    }
+
+    @Benchmark
+    public ReadOnlyApplicationBook read() throws DataConversionException {
+        return storage.readApplicationBook().get();
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.application;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,14 +10,20 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.application.commons.core.LogsCenter;
 import seedu.application.commons.util.FileUtil;
+import seedu.application.commons.util.StringUtil;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String STANDARD_INPUT_SCRIPT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private boolean isReadingStandardInput;
+    private int saveInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +33,70 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file to read commands from when running headless, or null if they are read from standard input
+     * or the application is not headless.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public boolean isReadingStandardInput() {
+        return isReadingStandardInput;
+    }
+
+    public void setReadingStandardInput(boolean isReadingStandardInput) {
+        this.isReadingStandardInput = isReadingStandardInput;
+    }
+
+    /**
+     * Returns true if the application should run commands from a script or standard input without the GUI.
+     */
+    public boolean isHeadless() {
+        return scriptPath != null || isReadingStandardInput;
+    }
+
+    /**
+     * Returns the number of commands after which a headless application saves the application book, or 0 if it
+     * only saves after the last command.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the application command-line arguments, as they are passed to {@code main}.
+     * Like the named parameters of a JavaFX application, arguments of the form {@code --name=value} are parameters
+     * and other arguments are ignored.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +105,22 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptParameter = namedParameters.get("script");
+        if (STANDARD_INPUT_SCRIPT.equals(scriptParameter)) {
+            appParameters.setReadingStandardInput(true);
+        } else if (scriptParameter != null && !FileUtil.isValidPath(scriptParameter)) {
+            logger.warning("Invalid script path " + scriptParameter + ". Starting the GUI instead.");
+        } else if (scriptParameter != null) {
+            appParameters.setScriptPath(Paths.get(scriptParameter));
+        }
+
+        String saveIntervalParameter = namedParameters.get("save-every");
+        if (saveIntervalParameter != null && !StringUtil.isNonZeroUnsignedInteger(saveIntervalParameter)) {
+            logger.warning("Invalid save interval " + saveIntervalParameter + ". Saving after the last command.");
+        } else if (saveIntervalParameter != null) {
+            appParameters.setSaveInterval(Integer.parseInt(saveIntervalParameter));
+        }
+
         return appParameters;
     }
 
@@ -54,11 +135,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && isReadingStandardInput() == otherAppParameters.isReadingStandardInput()
+                && getSaveInterval() == otherAppParameters.getSaveInterval();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isReadingStandardInput, saveInterval);
     }
 }
@@ -0,0 +1,123 @@
+package seedu.application;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import seedu.application.commons.core.LogsCenter;
+import seedu.application.commons.util.StringUtil;
+import seedu.application.logic.commands.CommandResult;
+import seedu.application.logic.commands.exceptions.CommandException;
+import seedu.application.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without the GUI, executing the commands in a script file or read from standard input.
+ * Blank lines and lines starting with {@code #} are skipped, and the commands stop at the end of the input or at an
+ * exit command. A command that fails is reported and the commands after it are still executed.
+ *
+ * The JavaFX runtime is never started, so the application can run on machines without a display.
+ */
+public class HeadlessApp extends MainApp {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\n%3$s";
+    public static final String MESSAGE_SCRIPT_UNREADABLE = "Could not read commands: %1$s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data to file: %1$s";
+    public static final String MESSAGE_SUMMARY = "Executed %1$d commands, %2$d of which failed";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final InputStream in;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} as given by {@code appParameters}, which reads commands from {@code in} if it
+     * reads standard input, and prints the results of commands to {@code out} and failures to {@code err}.
+     */
+    public HeadlessApp(AppParameters appParameters, InputStream in, PrintStream out, PrintStream err) {
+        requireNonNull(appParameters);
+        requireNonNull(in);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.appParameters = appParameters;
+        this.in = in;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes the commands, saves the application book and returns the exit status of the application:
+     * 0 if every command succeeded and was saved, and 1 otherwise.
+     */
+    public int run() {
+        logger.info("=========================[ Running ApplicationBook headless ]=========================");
+        initComponents(appParameters);
+
+        boolean isSuccessful = true;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(openCommands(),
+                StandardCharsets.UTF_8))) {
+            isSuccessful = executeCommands(reader);
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_SCRIPT_UNREADABLE, StringUtil.getDetails(e)));
+            isSuccessful = false;
+        }
+
+        try {
+            logic.flushApplicationBook();
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_SAVE_FAILED, StringUtil.getDetails(e)));
+            isSuccessful = false;
+        }
+        stop();
+        return isSuccessful ? 0 : 1;
+    }
+
+    private InputStream openCommands() throws IOException {
+        if (appParameters.isReadingStandardInput()) {
+            return in;
+        }
+        logger.info("Reading commands from " + appParameters.getScriptPath());
+        return Files.newInputStream(appParameters.getScriptPath());
+    }
+
+    /**
+     * Executes the commands read from {@code reader}, and returns true if none of them failed.
+     */
+    private boolean executeCommands(BufferedReader reader) throws IOException {
+        int commandCount = 0;
+        int failureCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, e.getMessage()));
+            }
+        }
+        logger.info(String.format(MESSAGE_SUMMARY, commandCount, failureCount));
+        return failureCount == 0;
+    }
+
+}
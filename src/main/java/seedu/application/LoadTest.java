@@ -0,0 +1,375 @@
+package seedu.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import seedu.application.commons.core.Config;
+import seedu.application.commons.core.LatencyRecorder;
+import seedu.application.commons.core.LogsCenter;
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.logic.Logic;
+import seedu.application.logic.LogicManager;
+import seedu.application.logic.commands.exceptions.CommandException;
+import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.model.ModelManager;
+import seedu.application.model.ReadOnlyApplicationBook;
+import seedu.application.model.UserPrefs;
+import seedu.application.model.util.SyntheticDataGenerator;
+import seedu.application.storage.ApplicationBookStorage;
+import seedu.application.storage.JournalApplicationBookStorage;
+import seedu.application.storage.JsonUserPrefsStorage;
+import seedu.application.storage.Storage;
+import seedu.application.storage.StorageManager;
+import seedu.application.storage.WriteBehindApplicationBookSaver;
+
+/**
+ * Generates large application books and measures how the application performs on them, without the GUI.
+ *
+ * {@code generate} writes an application book of synthetic applications in any storage format.
+ * {@code run} replays a workload of commands through a {@code LogicManager} on such a book, and reports the
+ * throughput of the commands and percentiles of their latencies. Commands are saved as they are in the
+ * application, synchronously or by a write-behind saver.
+ */
+public class LoadTest {
+
+    public static final String MESSAGE_USAGE = "Usage:\n"
+            + "  generate --size N --file FILE [STORAGE OPTIONS] [GENERATOR OPTIONS]\n"
+            + "  run [--size N] [--file FILE] [--workload FILE] [--repeat N] [--warmup N] "
+            + "[--save write-behind|sync] [STORAGE OPTIONS] [GENERATOR OPTIONS]\n"
+            + "Storage options: --format json|journal|binary, --compact\n"
+            + "Generator options: --seed N, --applications-per-company N, --company-skew S, --position-skew S, "
+            + "--email-domain-skew S, --date-skew S, --first-date yyyy-mm-dd, --last-date yyyy-mm-dd\n"
+            + "run generates a book of --size applications into --file, or a temporary file, before replaying the "
+            + "workload. Without --size, it replays the workload on the book already in --file.\n"
+            + "In a workload, {n} is replaced by a number that is different every time the command is run.";
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown option %1$s";
+    public static final String MESSAGE_MISSING_VALUE = "Option %1$s needs a value";
+    public static final String MESSAGE_INVALID_VALUE = "Invalid value %2$s for option %1$s";
+    public static final String MESSAGE_MISSING_OPTION = "Option %1$s is required";
+    public static final String MESSAGE_MISSING_FILE = "No application book in %1$s";
+
+    public static final String COUNTER_PLACEHOLDER = "{n}";
+    public static final String DEFAULT_WORKLOAD = "/loadtest/workload.txt";
+    public static final int DEFAULT_REPEAT = 100;
+    public static final int DEFAULT_WARMUP = 10;
+
+    private static final String[] FLAGS = {"--compact"};
+    private static final String[] OPTIONS = {"--size", "--file", "--workload", "--repeat", "--warmup", "--save",
+        "--format", "--seed", "--applications-per-company", "--company-skew", "--position-skew",
+        "--email-domain-skew", "--date-skew", "--first-date", "--last-date"};
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final Map<String, String> options;
+    private final PrintStream out;
+    private final Config config = new Config();
+
+    private LoadTest(Map<String, String> options, PrintStream out) {
+        this.options = options;
+        this.out = out;
+        config.setStorageFormat(getStorageFormat());
+        config.setCompactJson(options.containsKey("--compact"));
+    }
+
+    /**
+     * Runs {@code generate} or {@code run} with the options in {@code args}.
+     */
+    public static void main(String[] args) {
+        LogsCenter.init(getQuietConfig());
+        try {
+            if (args.length == 0) {
+                throw new IllegalArgumentException(MESSAGE_USAGE);
+            }
+            LoadTest loadTest = new LoadTest(parseOptions(args), System.out);
+            switch (args[0]) {
+            case "generate":
+                loadTest.generate();
+                break;
+            case "run":
+                loadTest.run();
+                break;
+            default:
+                throw new IllegalArgumentException(MESSAGE_USAGE);
+            }
+        } catch (IllegalArgumentException | IOException | DataConversionException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns a config that logs only warnings, so that the log does not time every command.
+     */
+    private static Config getQuietConfig() {
+        Config quietConfig = new Config();
+        quietConfig.setLogLevel(Level.WARNING);
+        return quietConfig;
+    }
+
+    /**
+     * Parses the options that follow the task in {@code args}.
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            String name = args[i];
+            if (List.of(FLAGS).contains(name)) {
+                options.put(name, "");
+            } else if (List.of(OPTIONS).contains(name)) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, name));
+                }
+                options.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_OPTION, name));
+            }
+        }
+        return options;
+    }
+
+    private void generate() throws IOException {
+        if (!options.containsKey("--file")) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_OPTION, "--file"));
+        }
+        generateInto(getPath("--file"));
+    }
+
+    private void run() throws IOException, DataConversionException {
+        boolean isGenerated = options.containsKey("--size");
+        boolean isTemporary = !options.containsKey("--file");
+        if (!isGenerated && isTemporary) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_OPTION, "--size or --file"));
+        }
+        Path filePath = isTemporary ? Files.createTempFile("loadtest", ".json") : getPath("--file");
+        try {
+            if (isGenerated) {
+                generateInto(filePath);
+            }
+            replayWorkload(filePath);
+        } finally {
+            if (isTemporary) {
+                Files.deleteIfExists(filePath);
+                Files.deleteIfExists(JournalApplicationBookStorage.getJournalFilePath(filePath));
+            }
+        }
+    }
+
+    /**
+     * Generates an application book of {@code --size} applications and saves it to {@code filePath}.
+     */
+    private void generateInto(Path filePath) throws IOException {
+        int size = getInt("--size", -1);
+        if (size < 0) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_OPTION, "--size"));
+        }
+        SyntheticDataGenerator generator = getGenerator();
+        out.println("Generating " + size + " applications (" + generator + ")");
+        long start = System.nanoTime();
+        ReadOnlyApplicationBook applicationBook = generator.generateApplicationBook(size);
+        out.printf("Generated in %.0f ms%n", (System.nanoTime() - start) / NANOS_PER_MILLI);
+
+        ApplicationBookStorage applicationBookStorage = MainApp.initApplicationBookStorage(config, filePath);
+        start = System.nanoTime();
+        applicationBookStorage.saveApplicationBook(applicationBook);
+        out.printf("Saved in %s format to %s (%d bytes) in %.0f ms%n", config.getStorageFormat(), filePath,
+                Files.size(filePath), (System.nanoTime() - start) / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Loads the application book in {@code filePath} and replays the workload on it, then prints the report.
+     */
+    private void replayWorkload(Path filePath) throws IOException, DataConversionException {
+        List<String> workload = readWorkload();
+        int repeat = getInt("--repeat", DEFAULT_REPEAT);
+        int warmup = getInt("--warmup", DEFAULT_WARMUP);
+
+        ApplicationBookStorage applicationBookStorage = MainApp.initApplicationBookStorage(config, filePath);
+        Storage storage = new StorageManager(applicationBookStorage,
+                new JsonUserPrefsStorage(Paths.get(filePath + ".preferences.json")));
+        long start = System.nanoTime();
+        Optional<ReadOnlyApplicationBook> applicationBook = storage.readApplicationBook();
+        if (!applicationBook.isPresent()) {
+            throw new IllegalArgumentException(String.format(MESSAGE_MISSING_FILE, filePath));
+        }
+        ModelManager model = ModelManager.adopting(applicationBook.get(), new UserPrefs());
+        out.printf("Loaded %d applications in %.0f ms%n", model.getApplicationBook().getApplicationList().size(),
+                (System.nanoTime() - start) / NANOS_PER_MILLI);
+
+        WriteBehindApplicationBookSaver writeBehindSaver = getWriteBehindSaver(storage);
+        Logic logic = new LogicManager(model, storage, writeBehindSaver);
+        int counter = 0;
+        for (int i = 0; i < warmup; i++) {
+            counter = replayOnce(logic, workload, counter, new LatencyRecorder(), new int[1]);
+        }
+        LatencyRecorder latencies = new LatencyRecorder();
+        int[] failures = new int[1];
+        start = System.nanoTime();
+        for (int i = 0; i < repeat; i++) {
+            counter = replayOnce(logic, workload, counter, latencies, failures);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long flushStart = System.nanoTime();
+        logic.flushApplicationBook();
+        long flushNanos = System.nanoTime() - flushStart;
+        if (writeBehindSaver != null) {
+            writeBehindSaver.close();
+        }
+
+        out.printf("Ran %d commands (%d failed) in %.0f ms: %.1f commands/s%n", latencies.getCount(), failures[0],
+                elapsedNanos / NANOS_PER_MILLI, latencies.getCount() / (elapsedNanos / NANOS_PER_SECOND));
+        if (latencies.getCount() > 0) {
+            StringBuilder percentiles = new StringBuilder("Latency (ms):");
+            for (double percentile : REPORTED_PERCENTILES) {
+                percentiles.append(String.format(" p%s %.3f,", formatPercentile(percentile),
+                        latencies.getPercentileNanos(percentile) / NANOS_PER_MILLI));
+            }
+            percentiles.append(String.format(" max %.3f", latencies.getMaxNanos() / NANOS_PER_MILLI));
+            out.println(percentiles);
+        }
+        out.printf("Final flush took %.0f ms%n", flushNanos / NANOS_PER_MILLI);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    /**
+     * Executes every command of {@code workload} once, recording their latencies in {@code latencies} and counting
+     * the commands that fail in {@code failures}. Returns the value of the counter after the commands.
+     */
+    private int replayOnce(Logic logic, List<String> workload, int counter, LatencyRecorder latencies,
+            int[] failures) {
+        for (String commandTemplate : workload) {
+            String commandText = commandTemplate.replace(COUNTER_PLACEHOLDER, String.valueOf(counter++));
+            long start = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failures[0]++;
+            }
+            latencies.record(System.nanoTime() - start);
+        }
+        return counter;
+    }
+
+    /**
+     * Returns the commands in the workload file, or in the default workload, leaving out blank lines and comments.
+     */
+    private List<String> readWorkload() throws IOException {
+        InputStream workloadStream = options.containsKey("--workload")
+                ? Files.newInputStream(getPath("--workload"))
+                : LoadTest.class.getResourceAsStream(DEFAULT_WORKLOAD);
+        List<String> workload = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(workloadStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.trim();
+                if (!command.isEmpty() && !command.startsWith("#")) {
+                    workload.add(command);
+                }
+            }
+        }
+        return workload;
+    }
+
+    private WriteBehindApplicationBookSaver getWriteBehindSaver(Storage storage) {
+        String save = options.getOrDefault("--save", "write-behind");
+        switch (save) {
+        case "write-behind":
+            return new WriteBehindApplicationBookSaver(storage, config.getSaveMaxLatencyMillis());
+        case "sync":
+            return null;
+        default:
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_VALUE, "--save", save));
+        }
+    }
+
+    private SyntheticDataGenerator getGenerator() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator()
+                .withSeed(getLong("--seed", SyntheticDataGenerator.DEFAULT_SEED))
+                .withApplicationsPerCompany(getDouble("--applications-per-company",
+                        SyntheticDataGenerator.DEFAULT_APPLICATIONS_PER_COMPANY))
+                .withCompanySkew(getDouble("--company-skew", SyntheticDataGenerator.DEFAULT_COMPANY_SKEW))
+                .withPositionSkew(getDouble("--position-skew", SyntheticDataGenerator.DEFAULT_POSITION_SKEW))
+                .withEmailDomainSkew(getDouble("--email-domain-skew",
+                        SyntheticDataGenerator.DEFAULT_EMAIL_DOMAIN_SKEW));
+        return generator.withDates(getDate("--first-date", SyntheticDataGenerator.DEFAULT_FIRST_DATE),
+                getDate("--last-date", SyntheticDataGenerator.DEFAULT_LAST_DATE),
+                getDouble("--date-skew", SyntheticDataGenerator.DEFAULT_DATE_SKEW));
+    }
+
+    private Config.StorageFormat getStorageFormat() {
+        String format = options.getOrDefault("--format", Config.StorageFormat.JSON.name());
+        try {
+            return Config.StorageFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_VALUE, "--format", format));
+        }
+    }
+
+    private Path getPath(String name) {
+        return Paths.get(options.get(name));
+    }
+
+    private int getInt(String name, int defaultValue) {
+        if (!options.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(options.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_VALUE, name, options.get(name)));
+        }
+    }
+
+    private long getLong(String name, long defaultValue) {
+        if (!options.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(options.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_VALUE, name, options.get(name)));
+        }
+    }
+
+    private double getDouble(String name, double defaultValue) {
+        if (!options.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(options.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_VALUE, name, options.get(name)));
+        }
+    }
+
+    private LocalDate getDate(String name, LocalDate defaultValue) {
+        if (!options.containsKey(name)) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(options.get(name));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_VALUE, name, options.get(name)));
+        }
+    }
+
+}
@@ -17,9 +17,19 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also runs the application headless, without starting the JavaFX runtime at all, when it is given a script
+ * of commands to execute.
  */
 public class Main {
+    /**
+     * Runs the application headless if a script is given in {@code args}, and launches the GUI otherwise.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(new HeadlessApp(appParameters, System.in, System.out, System.err).run());
+        }
         Application.launch(MainApp.class, args);
     }
 }
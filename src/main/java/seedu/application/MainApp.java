@@ -12,6 +12,7 @@ import seedu.application.commons.core.LogsCenter;
 import seedu.application.commons.core.Version;
 import seedu.application.commons.exceptions.DataConversionException;
 import seedu.application.commons.util.ConfigUtil;
+import seedu.application.commons.util.FileUtil;
 import seedu.application.commons.util.StringUtil;
 import seedu.application.logic.Logic;
 import seedu.application.logic.LogicManager;
@@ -23,11 +24,14 @@ import seedu.application.model.ReadOnlyUserPrefs;
 import seedu.application.model.UserPrefs;
 import seedu.application.model.util.SampleDataUtil;
 import seedu.application.storage.ApplicationBookStorage;
+import seedu.application.storage.BinaryApplicationBookStorage;
+import seedu.application.storage.JournalApplicationBookStorage;
 import seedu.application.storage.JsonApplicationBookStorage;
 import seedu.application.storage.JsonUserPrefsStorage;
 import seedu.application.storage.Storage;
 import seedu.application.storage.StorageManager;
 import seedu.application.storage.UserPrefsStorage;
+import seedu.application.storage.WriteBehindApplicationBookSaver;
 import seedu.application.ui.Ui;
 import seedu.application.ui.UiManager;
 
@@ -45,6 +49,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected WriteBehindApplicationBookSaver applicationBookSaver;
 
     @Override
     public void init() throws Exception {
@@ -52,21 +57,73 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(appParameters);
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component of the application except the UI, as given by {@code appParameters}.
+     * A headless application saves the application book synchronously, after the number of commands given by
+     * {@code appParameters}, while the GUI hands it to a write-behind saver after every command.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
+        FileUtil.setFsyncPolicy(config.getFsyncPolicy());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         ApplicationBookStorage applicationBookStorage =
-                new JsonApplicationBookStorage(userPrefs.getApplicationBookFilePath());
+                initApplicationBookStorage(config, userPrefs.getApplicationBookFilePath());
         storage = new StorageManager(applicationBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        if (appParameters.isHeadless()) {
+            logic = new LogicManager(model, storage, appParameters.getSaveInterval());
+        } else {
+            applicationBookSaver = new WriteBehindApplicationBookSaver(storage, config.getSaveMaxLatencyMillis());
+            logic = new LogicManager(model, storage, applicationBookSaver);
+        }
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns an {@code ApplicationBookStorage} for the application book file at {@code applicationBookFilePath},
+     * in the storage format chosen in {@code config}.
+     * A journal left next to the file by the journal storage format is first folded into the file, and if that
+     * fails, the journal storage format is used instead so that the changes in the journal are not lost.
+     */
+    static ApplicationBookStorage initApplicationBookStorage(Config config, Path applicationBookFilePath) {
+        ApplicationBookStorage applicationBookStorage;
+        switch (config.getStorageFormat()) {
+        case JOURNAL:
+            logger.info("Using journal storage for " + applicationBookFilePath);
+            return new JournalApplicationBookStorage(applicationBookFilePath, config.getJournalCompactionThreshold());
+        case BINARY:
+            logger.info("Using binary storage for " + applicationBookFilePath);
+            applicationBookStorage = new BinaryApplicationBookStorage(applicationBookFilePath);
+            break;
+        case JSON:
+        default:
+            applicationBookStorage = new JsonApplicationBookStorage(applicationBookFilePath, config.isCompactJson(),
+                    config.isSkippingInvalidApplications());
+            break;
+        }
+
+        try {
+            if (JournalApplicationBookStorage.foldJournalInto(applicationBookFilePath, applicationBookStorage)) {
+                logger.info("Saved the journal of " + applicationBookFilePath + " in the "
+                        + config.getStorageFormat() + " format");
+            }
+            return applicationBookStorage;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not save the journal of " + applicationBookFilePath + " in the "
+                    + config.getStorageFormat() + " format, using journal storage instead: "
+                    + StringUtil.getDetails(e));
+            return new JournalApplicationBookStorage(applicationBookFilePath, config.getJournalCompactionThreshold());
+        }
     }
 
     /**
@@ -94,7 +151,7 @@ public class MainApp extends Application {
             initialData = new ApplicationBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return ModelManager.adopting(initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -178,10 +235,19 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Application Book ] =============================");
+        try {
+            logic.flushApplicationBook();
+            if (applicationBookSaver != null) {
+                applicationBookSaver.close();
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to save application book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        FileUtil.syncPendingWrites();
     }
 }
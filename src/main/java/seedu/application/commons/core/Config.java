@@ -5,16 +5,38 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.application.commons.util.FileUtil.FsyncPolicy;
+
 /**
  * Config values used by the app
  */
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_MAX_LATENCY_MILLIS = 500;
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+
+    /**
+     * Formats in which the application book can be stored.
+     */
+    public enum StorageFormat {
+        /** The whole application book is rewritten as a JSON file on every save. */
+        JSON,
+        /** Changes are appended to a journal next to a JSON snapshot that is rewritten only on compaction. */
+        JOURNAL,
+        /** The whole application book is rewritten in a compact binary format on every save. */
+        BINARY
+    }
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveMaxLatencyMillis = DEFAULT_SAVE_MAX_LATENCY_MILLIS;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private boolean isCompactJson = false;
+    private boolean isSkippingInvalidApplications = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +54,62 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the longest time, in milliseconds, that a change to the application book may wait
+     * before it is written to disk.
+     */
+    public long getSaveMaxLatencyMillis() {
+        return saveMaxLatencyMillis;
+    }
+
+    public void setSaveMaxLatencyMillis(long saveMaxLatencyMillis) {
+        this.saveMaxLatencyMillis = saveMaxLatencyMillis;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Returns the number of journal records after which the journal is compacted into a new snapshot.
+     * Only used with {@link StorageFormat#JOURNAL}.
+     */
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public boolean isCompactJson() {
+        return isCompactJson;
+    }
+
+    public void setCompactJson(boolean isCompactJson) {
+        this.isCompactJson = isCompactJson;
+    }
+
+    public boolean isSkippingInvalidApplications() {
+        return isSkippingInvalidApplications;
+    }
+
+    public void setSkippingInvalidApplications(boolean isSkippingInvalidApplications) {
+        this.isSkippingInvalidApplications = isSkippingInvalidApplications;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +122,20 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveMaxLatencyMillis == o.saveMaxLatencyMillis
+                && storageFormat == o.storageFormat
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && fsyncPolicy == o.fsyncPolicy
+                && isCompactJson == o.isCompactJson
+                && isSkippingInvalidApplications == o.isSkippingInvalidApplications;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveMaxLatencyMillis, storageFormat,
+                journalCompactionThreshold, fsyncPolicy, isCompactJson,
+                isSkippingInvalidApplications);
     }
 
     @Override
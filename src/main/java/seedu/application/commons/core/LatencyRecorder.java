@@ -0,0 +1,73 @@
+package seedu.application.commons.core;
+
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Records how long each of a series of operations took, and reports percentiles of those latencies.
+ * Every latency is kept, so percentiles are exact rather than estimated.
+ */
+public class LatencyRecorder {
+
+    public static final String MESSAGE_NEGATIVE_LATENCY = "Latencies should not be negative";
+    public static final String MESSAGE_INVALID_PERCENTILE = "Percentiles should be greater than 0 and at most 100";
+    public static final String MESSAGE_NO_LATENCIES = "No latencies have been recorded";
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] latencies = new long[INITIAL_CAPACITY];
+    private int count;
+    private long totalNanos;
+    private boolean isSorted = true;
+
+    /**
+     * Records an operation that took {@code nanos} nanoseconds.
+     */
+    public void record(long nanos) {
+        checkArgument(nanos >= 0, MESSAGE_NEGATIVE_LATENCY);
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        isSorted = isSorted && (count == 0 || latencies[count - 1] <= nanos);
+        latencies[count++] = nanos;
+        totalNanos += nanos;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the smallest recorded latency that is at least as long as {@code percentile} percent of the
+     * recorded latencies.
+     *
+     * @throws IllegalStateException if no latencies have been recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, MESSAGE_INVALID_PERCENTILE);
+        if (count == 0) {
+            throw new IllegalStateException(MESSAGE_NO_LATENCIES);
+        }
+        if (!isSorted) {
+            Arrays.sort(latencies, 0, count);
+            isSorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return latencies[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Returns the longest recorded latency.
+     *
+     * @throws IllegalStateException if no latencies have been recorded.
+     */
+    public long getMaxNanos() {
+        return getPercentileNanos(100);
+    }
+
+}
@@ -1,17 +1,69 @@
 package seedu.application.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.application.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /**
+     * When data written through {@link #appendToFile(Path, String)}, and the renames that complete
+     * {@link #writeToFileAtomically(Path, String)}, are forced to disk.
+     * The new contents of an atomic write are always forced to disk before the rename, whatever the policy.
+     */
+    public enum FsyncPolicy {
+        /** Force every write to disk before returning. Survives power loss, at the cost of save latency. */
+        ALWAYS,
+        /** Leave writes to the operating system, and force them to disk in {@link #syncPendingWrites()}. */
+        ON_EXIT,
+        /** Never force writes to disk. An operating system crash may lose recent appends and atomic writes. */
+        NEVER
+    }
+
+    /**
+     * Writes the contents of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code outputStream}. The stream is closed by the caller.
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final Set<Path> unsyncedFiles = new LinkedHashSet<>();
+
+    private static FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -31,6 +83,25 @@ public class FileUtil {
         return true;
     }
 
+    /**
+     * Returns the first of {@code candidates} whose extension, as given by {@code extensionOf}, ends the file name
+     * of {@code file}, ignoring case, or an empty {@code Optional} if there is none.
+     */
+    public static <T> Optional<T> findByExtension(Path file, T[] candidates, Function<T, String> extensionOf) {
+        requireNonNull(file);
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        for (T candidate : candidates) {
+            if (name.endsWith(extensionOf.apply(candidate).toLowerCase(Locale.ROOT))) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Creates a file if it does not exist along with its missing parent directories.
      * @throws IOException if the file or directory cannot be created.
@@ -80,4 +151,178 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Sets the policy used to force writes to disk.
+     */
+    public static synchronized void setFsyncPolicy(FsyncPolicy policy) {
+        requireNonNull(policy);
+        fsyncPolicy = policy;
+    }
+
+    public static synchronized FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code content} such that, even if the program or the
+     * operating system crashes midway, the file holds either its old or its new contents in full.
+     * The content is written to a temporary file next to {@code file} and forced to disk, whatever the fsync
+     * policy, before the temporary file is moved over it. The policy decides only when the move is forced to disk,
+     * so after an operating system crash the file may still hold its old contents, but never part of the new ones.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but streams the contents through a buffer
+     * as {@code contentWriter} produces them instead of holding them in memory.
+     * The file keeps its permissions, or gets the default permissions of new files if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = createTemporaryFile(directory, file.getFileName().toString());
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+            copyPermissions(file, temporaryFile);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        afterWrite(directory);
+    }
+
+    /**
+     * Appends {@code content} to the end of {@code file}, forcing it to disk according to the fsync policy.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writeFully(channel, content);
+            if (getFsyncPolicy() == FsyncPolicy.ALWAYS) {
+                channel.force(false);
+            }
+        }
+        afterWrite(file);
+    }
+
+    /**
+     * Cuts {@code file} down to its first {@code size} bytes, such as to remove what an interrupted
+     * {@link #appendToFile(Path, String)} left behind, forcing it to disk according to the fsync policy.
+     * Does nothing if the file is not longer than {@code size}.
+     */
+    public static void truncateFile(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (channel.size() <= size) {
+                return;
+            }
+            channel.truncate(size);
+            if (getFsyncPolicy() == FsyncPolicy.ALWAYS) {
+                channel.force(false);
+            }
+        }
+        afterWrite(file);
+    }
+
+    /**
+     * Forces to disk every file written under {@link FsyncPolicy#ON_EXIT} that has not been forced yet.
+     * Files that can no longer be opened are skipped.
+     */
+    public static void syncPendingWrites() {
+        List<Path> filesToSync;
+        synchronized (FileUtil.class) {
+            filesToSync = new ArrayList<>(unsyncedFiles);
+            unsyncedFiles.clear();
+        }
+        for (Path file : filesToSync) {
+            if (Files.isDirectory(file)) {
+                forceDirectory(file);
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            } catch (IOException e) {
+                logger.warning("Failed to force " + file + " to disk: " + e);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty file with a unique name starting with {@code prefix} in {@code directory}.
+     * Unlike {@link Files#createTempFile}, which makes the file readable by its owner only, the file gets the
+     * default permissions of new files.
+     */
+    private static Path createTemporaryFile(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path temporaryFile = directory.resolve(prefix + "." + Long.toUnsignedString(
+                    ThreadLocalRandom.current().nextLong()) + TEMPORARY_FILE_SUFFIX);
+            try {
+                return Files.createFile(temporaryFile);
+            } catch (FileAlreadyExistsException e) {
+                logger.fine("Temporary file " + temporaryFile + " already exists, trying another name");
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system
+     * has POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (!Files.exists(source)
+                || !Files.getFileStore(target).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+    }
+
+    private static void writeFully(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Forces {@code path}, a file that was written in place or the directory a file was renamed into, to disk,
+     * or records it to be forced later, according to the fsync policy.
+     * Files written in place have already been forced under {@link FsyncPolicy#ALWAYS}.
+     */
+    private static void afterWrite(Path path) {
+        switch (getFsyncPolicy()) {
+        case ALWAYS:
+            if (Files.isDirectory(path)) {
+                forceDirectory(path);
+            }
+            break;
+        case ON_EXIT:
+            synchronized (FileUtil.class) {
+                unsyncedFiles.add(path.toAbsolutePath());
+            }
+            break;
+        case NEVER:
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Forces a rename within {@code directory} to disk. Not every platform supports this, in which case
+     * the rename is left to the operating system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Unable to force directory " + directory + " to disk: " + e);
+        }
+    }
+
 }
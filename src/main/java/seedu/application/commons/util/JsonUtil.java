@@ -5,12 +5,17 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -22,13 +27,41 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.application.commons.core.LogsCenter;
 import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
  */
 public class JsonUtil {
 
+    /**
+     * Writes a JSON document token by token.
+     */
+    @FunctionalInterface
+    public interface JsonStreamWriter {
+        /**
+         * Writes one complete JSON value to {@code generator}.
+         */
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads a JSON document token by token.
+     *
+     * @param <T> The type of object read from the document
+     */
+    @FunctionalInterface
+    public interface JsonStreamReader<T> {
+        /**
+         * Reads one complete JSON value from {@code parser}, which is positioned before its first token.
+         *
+         * @throws IllegalValueException if the value read violates any data constraints.
+         */
+        T readFrom(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final char LINE_SEPARATOR = '\n';
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -40,7 +73,7 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -76,9 +109,41 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads an object from the given file with {@code jsonStreamReader}, or returns {@code Optional.empty()} if the
+     * file is not found. The file is parsed as a stream of tokens rather than read into memory first, so the
+     * reader can convert and validate the document as it goes.
+     * Objects read with {@link JsonParser#readValueAs(Class)} are deserialized the same way as in
+     * {@link #readJsonFile(Path, Class)}.
+     * @param filePath cannot be null.
+     * @param jsonStreamReader cannot be null.
+     * @throws DataConversionException if the file format is not as expected or the data read is invalid.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonStreamReader<T> jsonStreamReader)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(jsonStreamReader);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(Files.newInputStream(filePath))) {
+            return Optional.of(jsonStreamReader.readFrom(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so it is never left partially written.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -90,6 +155,64 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the JSON document produced by {@code jsonStreamWriter} to the specified file, streaming it to disk
+     * as it is generated rather than building it in memory first.
+     * Objects passed to {@link JsonGenerator#writeObject(Object)} are serialized the same way as in
+     * {@link #saveJsonFile(Object, Path)}.
+     * The file is replaced atomically, so it is never left partially written.
+     * @param filePath cannot be null
+     * @param isCompact whether to leave out the line breaks and indentation of the pretty-printed format
+     * @param jsonStreamWriter cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonFile(Path filePath, boolean isCompact, JsonStreamWriter jsonStreamWriter)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonStreamWriter);
+
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                jsonStreamWriter.writeTo(generator);
+            }
+        });
+    }
+
+    /**
+     * Saves {@code values} to the specified file as newline-delimited JSON, with every value as a compact JSON
+     * document on a line of its own. The values are serialized and streamed to disk one at a time as
+     * {@code values} produces them, in the same way as in {@link #saveJsonFile(Object, Path)}.
+     * The file is replaced atomically, so it is never left partially written.
+     * @param filePath cannot be null
+     * @param values cannot be null
+     * @return the number of values saved
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static long saveJsonLinesFile(Path filePath, Stream<?> values) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(values);
+
+        long[] valueCount = {0};
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(outputStream, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null)) {
+                Iterator<?> iterator = values.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    generator.writeRaw(LINE_SEPARATOR);
+                    valueCount[0]++;
+                }
+            }
+        });
+        return valueCount[0];
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +233,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a compact, single-line JSON data string representation.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
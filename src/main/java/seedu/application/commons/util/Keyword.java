@@ -0,0 +1,161 @@
+package seedu.application.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * A single word to search for, validated and normalised once so that it can be matched against many sentences
+ * without allocating.
+ * A word ending in {@value #PREFIX_MARKER} matches the words that start with it, and a word ending in
+ * {@value #FUZZY_MARKER} matches the words that are at most {@link #getMaxEdits()} typing mistakes away from it.
+ * Guarantees: immutable; is a single, non-empty word without surrounding whitespace; is equal to another keyword
+ *     that matches the same words, which is one with the same match type and a word that is equal ignoring case.
+ */
+public class Keyword {
+
+    public static final char PREFIX_MARKER = '*';
+    public static final char FUZZY_MARKER = '~';
+
+    /** Longest word that must be matched exactly, even when fuzzy. */
+    public static final int MAX_EXACT_FUZZY_LENGTH = 2;
+    /** Longest word that is matched with at most one edit when fuzzy. Longer words allow two. */
+    public static final int MAX_ONE_EDIT_FUZZY_LENGTH = 5;
+
+    /**
+     * How a keyword is compared with the words of a sentence.
+     */
+    public enum MatchType {
+        /** The whole word must be equal to the keyword. */
+        EXACT,
+        /** The word must start with the keyword. */
+        PREFIX,
+        /** The word must be within a few edits of the keyword. */
+        FUZZY
+    }
+
+    private final String word;
+    private final String key;
+    private final MatchType matchType;
+
+    /**
+     * Constructs a {@code Keyword} from {@code word}, ignoring surrounding whitespace.
+     * The match type is given by the marker at the end of the word, if any.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public Keyword(String word) {
+        requireNonNull(word);
+        String trimmedWord = word.trim();
+        checkArgument(!trimmedWord.isEmpty(), StringUtil.MESSAGE_EMPTY_WORD);
+        checkArgument(!StringUtil.containsWhitespace(trimmedWord, 0, trimmedWord.length()),
+                StringUtil.MESSAGE_MULTIPLE_WORDS);
+
+        char lastChar = trimmedWord.charAt(trimmedWord.length() - 1);
+        if (lastChar == PREFIX_MARKER) {
+            matchType = MatchType.PREFIX;
+        } else if (lastChar == FUZZY_MARKER) {
+            matchType = MatchType.FUZZY;
+        } else {
+            matchType = MatchType.EXACT;
+        }
+        this.word = matchType == MatchType.EXACT ? trimmedWord : trimmedWord.substring(0, trimmedWord.length() - 1);
+        checkArgument(!this.word.isEmpty(), StringUtil.MESSAGE_EMPTY_WORD);
+        this.key = StringUtil.toCaseInsensitiveKey(this.word);
+    }
+
+    /**
+     * Returns the word to search for, without its marker.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Returns the key of this keyword, which is equal to the key of another word exactly when the two are equal
+     * ignoring case.
+     *
+     * @see StringUtil#toCaseInsensitiveKey(String)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Returns the largest number of edits between this keyword and a word that it matches.
+     * This is zero unless the keyword is fuzzy, and grows with the length of the word, so that short words are not
+     * matched by almost anything.
+     */
+    public int getMaxEdits() {
+        if (matchType != MatchType.FUZZY || word.length() <= MAX_EXACT_FUZZY_LENGTH) {
+            return 0;
+        }
+        return word.length() <= MAX_ONE_EDIT_FUZZY_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Returns true if {@code sentence} contains a word matched by this keyword, ignoring case.
+     *
+     * @see StringUtil#containsWordIgnoreCase(String, String)
+     */
+    public boolean isWordIn(String sentence) {
+        return indexOfWordIn(sentence, 0) >= 0;
+    }
+
+    /**
+     * Returns the start of the first word of {@code sentence} at or after {@code fromIndex} that this keyword
+     * matches, ignoring case, or -1 if there is none.
+     * {@code fromIndex} must be the start of a word or of whitespace, such as 0 or the end of a matched word.
+     */
+    public int indexOfWordIn(String sentence, int fromIndex) {
+        requireNonNull(sentence);
+        switch (matchType) {
+        case PREFIX:
+            return StringUtil.indexOfWordStartingWithIgnoreCase(sentence, fromIndex, word);
+        case FUZZY:
+            return StringUtil.indexOfSimilarWordIgnoreCase(sentence, fromIndex, key, getMaxEdits());
+        default:
+            return StringUtil.indexOfWordIgnoreCase(sentence, fromIndex, word, 0, word.length());
+        }
+    }
+
+    /**
+     * Returns the end of the part of the word starting at {@code wordStart} in {@code sentence} that this keyword
+     * matched: the end of the prefix for a prefix keyword, and the end of the whole word otherwise.
+     */
+    public int getMatchEnd(String sentence, int wordStart) {
+        requireNonNull(sentence);
+        return matchType == MatchType.PREFIX ? wordStart + word.length() : StringUtil.getWordEnd(sentence, wordStart);
+    }
+
+    @Override
+    public String toString() {
+        switch (matchType) {
+        case PREFIX:
+            return word + PREFIX_MARKER;
+        case FUZZY:
+            return word + FUZZY_MARKER;
+        default:
+            return word;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Keyword // instanceof handles nulls
+                && key.equals(((Keyword) other).key)
+                && matchType == ((Keyword) other).matchType); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, matchType);
+    }
+
+}
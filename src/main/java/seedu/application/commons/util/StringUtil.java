@@ -5,13 +5,15 @@ import static seedu.application.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    public static final String MESSAGE_EMPTY_WORD = "Word parameter cannot be empty";
+    public static final String MESSAGE_MULTIPLE_WORDS = "Word parameter should be a single word";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -20,6 +22,7 @@ public class StringUtil {
      *       containsWordIgnoreCase("ABc def", "DEF") == true
      *       containsWordIgnoreCase("ABc def", "AB") == false //not a full word match
      *       </pre>
+     * The sentence is scanned in place, so no objects are allocated.
      * @param sentence cannot be null
      * @param word cannot be null, cannot be empty, must be a single word
      */
@@ -27,15 +30,170 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, MESSAGE_EMPTY_WORD);
+        checkArgument(!containsWhitespace(word, wordStart, wordEnd), MESSAGE_MULTIPLE_WORDS);
+
+        return indexOfWordIgnoreCase(sentence, 0, word, wordStart, wordEnd) >= 0;
+    }
+
+    /**
+     * Returns the start of the first word of {@code sentence} at or after {@code fromIndex} that is the single word
+     * {@code word.substring(wordStart, wordEnd)}, ignoring case, or -1 if there is none.
+     * The word is assumed to have been validated already, and {@code fromIndex} to be the start of a word or of
+     * whitespace.
+     */
+    static int indexOfWordIgnoreCase(String sentence, int fromIndex, String word, int wordStart, int wordEnd) {
+        int wordLength = wordEnd - wordStart;
+        int tokenStart = fromIndex;
+        while (tokenStart <= sentence.length()) {
+            int tokenEnd = getWordEnd(sentence, tokenStart);
+            if (tokenEnd - tokenStart == wordLength
+                    && sentence.regionMatches(true, tokenStart, word, wordStart, wordLength)) {
+                return tokenStart;
+            }
+            tokenStart = tokenEnd + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the start of the first word of {@code sentence} at or after {@code fromIndex} that starts with
+     * {@code prefix}, ignoring case, or -1 if there is none.
+     * The prefix is assumed to be a single, non-empty word, and {@code fromIndex} to be the start of a word or of
+     * whitespace.
+     */
+    static int indexOfWordStartingWithIgnoreCase(String sentence, int fromIndex, String prefix) {
+        int prefixLength = prefix.length();
+        int tokenStart = fromIndex;
+        while (tokenStart <= sentence.length()) {
+            int tokenEnd = getWordEnd(sentence, tokenStart);
+            if (tokenEnd - tokenStart >= prefixLength
+                    && sentence.regionMatches(true, tokenStart, prefix, 0, prefixLength)) {
+                return tokenStart;
+            }
+            tokenStart = tokenEnd + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the start of the first word of {@code sentence} at or after {@code fromIndex} whose case-insensitive
+     * key is at most {@code maxEdits} edits away from {@code key}, or -1 if there is none.
+     * {@code fromIndex} is assumed to be the start of a word or of whitespace.
+     *
+     * @see #toCaseInsensitiveKey(String)
+     * @see #getEditDistance(String, String)
+     */
+    static int indexOfSimilarWordIgnoreCase(String sentence, int fromIndex, String key, int maxEdits) {
+        int tokenStart = fromIndex;
+        while (tokenStart <= sentence.length()) {
+            int tokenEnd = getWordEnd(sentence, tokenStart);
+            // words whose lengths differ by more than maxEdits are never close enough, so skip them cheaply
+            if (tokenEnd > tokenStart && Math.abs(tokenEnd - tokenStart - key.length()) <= maxEdits
+                    && getEditDistance(toCaseInsensitiveKey(sentence.substring(tokenStart, tokenEnd)), key)
+                    <= maxEdits) {
+                return tokenStart;
+            }
+            tokenStart = tokenEnd + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the end of the word of {@code sentence} that starts at {@code tokenStart}, which is the index of the
+     * first whitespace character at or after {@code tokenStart}, or the length of the sentence if there is none.
+     * @param sentence cannot be null
+     */
+    public static int getWordEnd(String sentence, int tokenStart) {
+        requireNonNull(sentence);
+        int tokenEnd = tokenStart;
+        while (tokenEnd < sentence.length() && !isWhitespace(sentence.charAt(tokenEnd))) {
+            tokenEnd++;
+        }
+        return tokenEnd;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the smallest number of
+     * single-character insertions, deletions and substitutions that turn one into the other.
+     *   <br>examples:<pre>
+     *       getEditDistance("google", "google") == 0
+     *       getEditDistance("google", "gogle") == 1
+     *       getEditDistance("google", "goggle") == 1
+     *       getEditDistance("bytedance", "bitdance") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Returns true if {@code s} has a whitespace character, as matched by {@code \s} in a regex,
+     * between {@code start} and {@code end}.
+     */
+    static boolean containsWhitespace(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isWhitespace(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns the words of {@code sentence}, as split by {@link #containsWordIgnoreCase(String, String)}.
+     * @param sentence cannot be null
+     */
+    public static String[] getWords(String sentence) {
+        requireNonNull(sentence);
+        return sentence.split("\\s+");
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns a key for {@code word} such that two words have equal keys if and only if they are equal ignoring
+     * case, in the sense of {@link String#equalsIgnoreCase(String)}.
+     * @param word cannot be null
+     */
+    public static String toCaseInsensitiveKey(String word) {
+        requireNonNull(word);
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
     }
 
     /**
@@ -1,5 +1,6 @@
 package seedu.application.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import seedu.application.logic.parser.exceptions.ParseException;
 import seedu.application.model.Model;
 import seedu.application.model.ReadOnlyApplicationBook;
 import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
 
 /**
  * API of the Logic component
@@ -24,6 +26,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Blocks until the changes made by all previously executed commands have been saved.
+     * @throws IOException If saving any of those changes failed.
+     */
+    void flushApplicationBook() throws IOException;
+
     /**
      * Returns the ApplicationBook.
      *
@@ -34,6 +42,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of applications */
     ObservableList<Application> getFilteredApplicationList();
 
+    /**
+     * Returns the parts of {@code application} that the current find matched.
+     *
+     * @see Model#getHighlights(Application)
+     */
+    Highlights getHighlights(Application application);
+
     /**
      * Returns the user prefs' application book file path.
      */
@@ -1,5 +1,7 @@
 package seedu.application.logic;
 
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
@@ -15,26 +17,70 @@ import seedu.application.logic.parser.exceptions.ParseException;
 import seedu.application.model.Model;
 import seedu.application.model.ReadOnlyApplicationBook;
 import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
 import seedu.application.storage.Storage;
+import seedu.application.storage.WriteBehindApplicationBookSaver;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_INVALID_SAVE_INTERVAL = "Save interval should not be negative";
+    private static final long NO_SAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final ApplicationBookParser applicationBookParser;
+    /** Saves the application book in the background, or null if saves are done synchronously. */
+    private final WriteBehindApplicationBookSaver writeBehindSaver;
+    /** Number of commands after which the application book is saved, or 0 if it is only saved when flushed. */
+    private final int saveInterval;
+    /**
+     * Version of the application book that was last saved, or handed to {@code writeBehindSaver}.
+     * Starts at the version of the application book in {@code model}, which was loaded from the data file.
+     */
+    private long lastSavedVersion;
+    /** Number of commands executed since the application book was last saved. */
+    private int commandsSinceSave;
 
     /**
      * Constructs a {@code LogicManager} with the given
      * {@code Model} and {@code Storage}.
+     * The application book is saved synchronously after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that hands the application book to {@code writeBehindSaver} after every command instead of
+     * saving it synchronously. If {@code writeBehindSaver} is null, saves are done synchronously.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindApplicationBookSaver writeBehindSaver) {
+        this(model, storage, writeBehindSaver, 1);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the application book synchronously after every {@code saveInterval} commands, and only when
+     * {@link #flushApplicationBook()} is called if {@code saveInterval} is 0.
+     */
+    public LogicManager(Model model, Storage storage, int saveInterval) {
+        this(model, storage, null, saveInterval);
+    }
+
+    private LogicManager(Model model, Storage storage, WriteBehindApplicationBookSaver writeBehindSaver,
+            int saveInterval) {
+        checkArgument(saveInterval >= 0, MESSAGE_INVALID_SAVE_INTERVAL);
         this.model = model;
         this.storage = storage;
+        this.writeBehindSaver = writeBehindSaver;
+        this.saveInterval = saveInterval;
+        lastSavedVersion = model.getApplicationBook().getVersion();
         applicationBookParser = new ApplicationBookParser();
     }
 
@@ -46,8 +92,13 @@ public class LogicManager implements Logic {
         Command command = applicationBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        commandsSinceSave++;
+        if (saveInterval == 0 || commandsSinceSave < saveInterval) {
+            return commandResult;
+        }
+
         try {
-            storage.saveApplicationBook(model.getApplicationBook());
+            saveApplicationBook();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -55,6 +106,63 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the application book if it has changed since it was last saved, or hands it to
+     * {@code writeBehindSaver} if there is one.
+     * If a background write of {@code writeBehindSaver} has failed since the last save, the application book is
+     * handed to it again and the failure is thrown.
+     */
+    private void saveApplicationBook() throws IOException {
+        commandsSinceSave = 0;
+        IOException writeFailure = null;
+        if (writeBehindSaver != null) {
+            try {
+                writeBehindSaver.checkWriteFailure();
+            } catch (IOException ioe) {
+                writeFailure = ioe;
+                lastSavedVersion = NO_SAVED_VERSION;
+            }
+        }
+
+        ReadOnlyApplicationBook applicationBook = model.getApplicationBook();
+        if (applicationBook.getVersion() != lastSavedVersion) {
+            if (writeBehindSaver != null) {
+                writeBehindSaver.requestSave(applicationBook);
+            } else {
+                storage.saveApplicationBook(applicationBook);
+            }
+            lastSavedVersion = applicationBook.getVersion();
+        }
+
+        if (writeFailure != null) {
+            throw writeFailure;
+        }
+    }
+
+    @Override
+    public void flushApplicationBook() throws IOException {
+        try {
+            saveApplicationBook();
+        } finally {
+            if (writeBehindSaver != null) {
+                flushWriteBehindSaver();
+            }
+        }
+    }
+
+    /**
+     * Waits for {@code writeBehindSaver} to write every application book handed to it, so that the application
+     * book is handed to it again by the next save if that write fails.
+     */
+    private void flushWriteBehindSaver() throws IOException {
+        try {
+            writeBehindSaver.flush();
+        } catch (IOException ioe) {
+            lastSavedVersion = NO_SAVED_VERSION;
+            throw ioe;
+        }
+    }
+
     @Override
     public ReadOnlyApplicationBook getApplicationBook() {
         return model.getApplicationBook();
@@ -65,6 +173,11 @@ public class LogicManager implements Logic {
         return model.getFilteredApplicationList();
     }
 
+    @Override
+    public Highlights getHighlights(Application application) {
+        return model.getHighlights(application);
+    }
+
     @Override
     public Path getApplicationBookFilePath() {
         return model.getApplicationBookFilePath();
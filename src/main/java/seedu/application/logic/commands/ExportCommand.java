@@ -0,0 +1,103 @@
+package seedu.application.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import seedu.application.logic.commands.exceptions.CommandException;
+import seedu.application.model.Model;
+import seedu.application.model.application.Application;
+import seedu.application.model.query.Query;
+import seedu.application.storage.ApplicationExporter;
+
+/**
+ * Writes the listed applications, or the applications that a query matches, to a CSV or newline-delimited JSON
+ * file. The applications are streamed to the file one at a time, so even very large application books are
+ * exported without copying them first.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the listed applications to a CSV or "
+            + "newline-delimited JSON file. If a query is given, writes every application it matches instead, "
+            + "without changing the listed applications.\n"
+            + "Parameters: FILE [QUERY], where FILE ends with .csv or .ndjson and QUERY is as in find\n"
+            + "Example: " + COMMAND_WORD + " applications.csv\n"
+            + "Example: " + COMMAND_WORD + " backend.ndjson p/backend AND d/>=2022-01-01";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d applications to %2$s in %3$.3f s "
+            + "(%4$.0f applications/s)";
+    public static final String MESSAGE_FILE_UNWRITABLE = "Could not write to %1$s: %2$s";
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final Path filePath;
+    private final ApplicationExporter.Format format;
+    private final Query query;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates an ExportCommand to write the listed applications to {@code filePath} in the given {@code format}.
+     */
+    public ExportCommand(Path filePath, ApplicationExporter.Format format) {
+        this(filePath, format, null, System::nanoTime);
+    }
+
+    /**
+     * Creates an ExportCommand to write the applications that {@code query} matches to {@code filePath} in the
+     * given {@code format}.
+     */
+    public ExportCommand(Path filePath, ApplicationExporter.Format format, Query query) {
+        this(filePath, format, requireNonNull(query), System::nanoTime);
+    }
+
+    /**
+     * Creates an ExportCommand that times the export with {@code nanoClock}, which returns the current time in
+     * nanoseconds as {@link System#nanoTime()} does.
+     */
+    ExportCommand(Path filePath, ApplicationExporter.Format format, Query query, LongSupplier nanoClock) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(nanoClock);
+        this.filePath = filePath;
+        this.format = format;
+        this.query = query;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Stream<Application> applications = query == null
+                ? model.getFilteredApplicationList().stream()
+                : model.getApplicationBook().getApplicationList().stream().filter(query);
+
+        long startNanos = nanoClock.getAsLong();
+        long applicationCount;
+        try {
+            applicationCount = ApplicationExporter.write(applications, filePath, format);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_UNWRITABLE, filePath, e.getMessage()), e);
+        }
+        long elapsedNanos = Math.max(nanoClock.getAsLong() - startNanos, 1);
+
+        double elapsedSeconds = elapsedNanos / NANOS_PER_SECOND;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, applicationCount, filePath, elapsedSeconds,
+                applicationCount / elapsedSeconds));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format == ((ExportCommand) other).format
+                && Objects.equals(query, ((ExportCommand) other).query)); // state check
+    }
+}
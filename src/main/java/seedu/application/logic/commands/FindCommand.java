@@ -2,28 +2,49 @@ package seedu.application.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.application.commons.core.Messages;
+import seedu.application.commons.util.Keyword;
 import seedu.application.model.Model;
 import seedu.application.model.application.CompanyContainsKeywordsPredicate;
 import seedu.application.model.application.PositionContainsKeywordsPredicate;
+import seedu.application.model.query.KeywordQuery;
+import seedu.application.model.query.OrQuery;
+import seedu.application.model.query.Query;
+import seedu.application.model.query.QueryResult;
 
 /**
- * Finds and lists all applications in application book whose
- * company name and/or position contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Finds and lists all applications in application book that match a query, which is either a list of keywords
+ * to look for in the company names and positions, or an expression in the query language of
+ * {@link seedu.application.logic.parser.QueryParser}.
+ * Keyword matching is case-insensitive, and keywords may ask for prefix or typo-tolerant matching.
+ * Matching applications are looked up in the model's indexes instead of testing every application.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String EXPLAIN_FLAG = "EXPLAIN";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all applications whose company name "
             + "and/or position contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " google grab byteDance software engineering";
+            + "End a keyword with " + Keyword.PREFIX_MARKER + " to match words starting with it, "
+            + "or with " + Keyword.FUZZY_MARKER + " to also match words with a typo or two.\n"
+            + "Search specific fields with c/KEYWORD, p/KEYWORD, e/EMAIL or e/*@DOMAIN and d/[>|>=|<|<=]DATE, "
+            + "and combine them with AND, OR, NOT and parentheses. Start with " + EXPLAIN_FLAG
+            + " to show how the applications were found.\n"
+            + "Example: " + COMMAND_WORD + " google grab byteDance software engineering\n"
+            + "Example: " + COMMAND_WORD + " goo* sofware~\n"
+            + "Example: " + COMMAND_WORD + " " + EXPLAIN_FLAG + " c/google AND p/engineer AND d/>2023-01-01 "
+            + "NOT e/*@spam.com";
+
+    public static final String MESSAGE_PLAN = "Plan:\n%1$s";
 
-    private final CompanyContainsKeywordsPredicate companyPredicate;
-    private final PositionContainsKeywordsPredicate positionPredicate;
+    private final Query query;
+    private final boolean isExplained;
 
     /**
      * Constructs FindCommand object.
@@ -32,24 +53,48 @@ public class FindCommand extends Command {
      */
     public FindCommand(CompanyContainsKeywordsPredicate companyPredicate,
                        PositionContainsKeywordsPredicate positionPredicate) {
-        this.companyPredicate = companyPredicate;
-        this.positionPredicate = positionPredicate;
+        this(toQuery(companyPredicate, positionPredicate), false);
+    }
+
+    /**
+     * Constructs a FindCommand that lists the applications matched by {@code query}, and also shows the plan that
+     * found them if {@code isExplained} is true.
+     */
+    public FindCommand(Query query, boolean isExplained) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplained = isExplained;
+    }
+
+    private static Query toQuery(CompanyContainsKeywordsPredicate companyPredicate,
+            PositionContainsKeywordsPredicate positionPredicate) {
+        List<Query> queries = new ArrayList<>();
+        for (Keyword keyword : companyPredicate.getKeywords()) {
+            queries.add(new KeywordQuery(KeywordQuery.Field.COMPANY, keyword));
+        }
+        for (Keyword keyword : positionPredicate.getKeywords()) {
+            queries.add(new KeywordQuery(KeywordQuery.Field.POSITION, keyword));
+        }
+        return new OrQuery(queries);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredApplicationList(companyPredicate.or(positionPredicate));
-        return new CommandResult(
-                String.format(Messages.MESSAGE_APPLICATION_LISTED_OVERVIEW, model.getFilteredApplicationList().size()));
+        QueryResult result = model.findApplications(query);
+        String message = String.format(Messages.MESSAGE_APPLICATION_LISTED_OVERVIEW,
+                model.getFilteredApplicationList().size());
+        if (isExplained) {
+            message += "\n" + String.format(MESSAGE_PLAN, result.getPlan());
+        }
+        return new CommandResult(message);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && companyPredicate.equals(((FindCommand) other).companyPredicate)
-                && positionPredicate.equals(((FindCommand) other).positionPredicate)); // state check
+                && query.equals(((FindCommand) other).query)
+                && isExplained == ((FindCommand) other).isExplained); // state check
     }
 }
-
@@ -0,0 +1,108 @@
+package seedu.application.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.logic.commands.exceptions.CommandException;
+import seedu.application.model.Model;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.ApplicationIdentity;
+import seedu.application.storage.ApplicationImporter;
+
+/**
+ * Adds every application in a CSV or JSON file to CinternS.
+ * Nothing is imported if any application in the file is invalid, and applications that are already in CinternS,
+ * or that appear earlier in the file, are skipped. The others are added all at once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds every application in a CSV or JSON file to "
+            + "CinternS. A CSV file starts with a header row naming its company, contact, email, position and date "
+            + "columns.\n"
+            + "Parameters: FILE, which ends with .csv or .json\n"
+            + "Example: " + COMMAND_WORD + " applications.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d applications and skipped %2$d duplicates";
+    public static final String MESSAGE_FILE_UNREADABLE = "Could not read %1$s";
+    public static final String MESSAGE_FILE_INVALID = "%1$s is not a valid import file: %2$s";
+    public static final String MESSAGE_INVALID_APPLICATIONS = "Nothing was imported, as %1$d applications in %2$s "
+            + "are invalid:\n%3$s";
+    public static final String MESSAGE_MORE_INVALID_APPLICATIONS = "and %1$d more";
+
+    /** Largest number of invalid applications that are described to the user. */
+    public static final int MAX_ERRORS_SHOWN = 5;
+
+    private final Path filePath;
+    private final ApplicationImporter.Format format;
+
+    /**
+     * Creates an ImportCommand to add the applications in {@code filePath}, which is in the given {@code format}.
+     */
+    public ImportCommand(Path filePath, ApplicationImporter.Format format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ApplicationImporter.Result result;
+        try {
+            result = ApplicationImporter.read(filePath, format);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_UNREADABLE, filePath), e);
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_INVALID, filePath, e.getCause().getMessage()), e);
+        }
+
+        List<String> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_APPLICATIONS, errors.size(), filePath,
+                    describeErrors(errors)));
+        }
+
+        List<Application> toAdd = new ArrayList<>();
+        Set<ApplicationIdentity> identities = new HashSet<>();
+        for (Application application : result.getApplications()) {
+            if (!model.hasApplication(application) && identities.add(new ApplicationIdentity(application))) {
+                toAdd.add(application);
+            }
+        }
+
+        if (!toAdd.isEmpty()) {
+            model.addApplications(toAdd);
+        }
+        int skippedCount = result.getApplications().size() - toAdd.size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), skippedCount));
+    }
+
+    private static String describeErrors(List<String> errors) {
+        StringBuilder description = new StringBuilder(String.join("\n",
+                errors.subList(0, Math.min(errors.size(), MAX_ERRORS_SHOWN))));
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            description.append('\n').append(String.format(MESSAGE_MORE_INVALID_APPLICATIONS,
+                    errors.size() - MAX_ERRORS_SHOWN));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)
+                && format == ((ImportCommand) other).format); // state check
+    }
+}
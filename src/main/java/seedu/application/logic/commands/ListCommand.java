@@ -3,22 +3,61 @@ package seedu.application.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.application.model.Model.PREDICATE_SHOW_ALL_APPLICATIONS;
 
+import java.util.Objects;
+
 import seedu.application.model.Model;
+import seedu.application.model.query.DateQuery;
 
 /**
- * Lists all applications in CinternS to the user.
+ * Lists all applications in CinternS to the user, or only those made in a range of dates.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all applications, or only those made "
+            + "in a range of dates.\n"
+            + "Parameters: [d/RANGE]\n"
+            + "Example: " + COMMAND_WORD + " d/2023-01-01..2023-03-31\n"
+            + "Example: " + COMMAND_WORD + " d/last30";
+
     public static final String MESSAGE_SUCCESS = "Listed all applications";
+    public static final String MESSAGE_DATE_RANGE_SUCCESS = "Listed %1$d applications with %2$s";
+
+    private final DateQuery dateQuery;
+
+    /**
+     * Creates a ListCommand that lists all applications.
+     */
+    public ListCommand() {
+        this.dateQuery = null;
+    }
 
+    /**
+     * Creates a ListCommand that lists the applications matched by {@code dateQuery}.
+     */
+    public ListCommand(DateQuery dateQuery) {
+        requireNonNull(dateQuery);
+        this.dateQuery = dateQuery;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (dateQuery == null) {
+            model.updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.findApplications(dateQuery);
+        return new CommandResult(String.format(MESSAGE_DATE_RANGE_SUCCESS,
+                model.getFilteredApplicationList().size(), dateQuery));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListCommand // instanceof handles nulls
+                && Objects.equals(dateQuery, ((ListCommand) other).dateQuery)); // state check
     }
 }
@@ -0,0 +1,62 @@
+package seedu.application.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.application.model.Model;
+import seedu.application.model.application.ApplicationComparator;
+
+/**
+ * Sorts the applications listed in CinternS by one or more fields, or restores the order they were added in.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+    public static final String ADDED_ORDER = "added";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed applications by one or more "
+            + "fields. Each field orders the applications that the fields before it consider equal, and a field "
+            + "preceded by - is sorted in descending order. Sort by " + ADDED_ORDER + " to list the applications "
+            + "in the order they were added.\n"
+            + "Parameters: FIELD [MORE_FIELDS]..., where FIELD is company, position or date\n"
+            + "Example: " + COMMAND_WORD + " -date company\n"
+            + "Example: " + COMMAND_WORD + " " + ADDED_ORDER;
+
+    public static final String MESSAGE_SUCCESS = "Sorted applications by %1$s";
+    public static final String MESSAGE_ADDED_ORDER_SUCCESS = "Listed applications in the order they were added";
+
+    private final ApplicationComparator comparator;
+
+    /**
+     * Creates a SortCommand that lists applications in the order they were added.
+     */
+    public SortCommand() {
+        this.comparator = null;
+    }
+
+    /**
+     * Creates a SortCommand that sorts applications by {@code comparator}.
+     */
+    public SortCommand(ApplicationComparator comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredApplicationList(comparator);
+        if (comparator == null) {
+            return new CommandResult(MESSAGE_ADDED_ORDER_SUCCESS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, comparator));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && Objects.equals(comparator, ((SortCommand) other).comparator)); // state check
+    }
+}
@@ -12,9 +12,12 @@ import seedu.application.logic.commands.Command;
 import seedu.application.logic.commands.DeleteCommand;
 import seedu.application.logic.commands.EditCommand;
 import seedu.application.logic.commands.ExitCommand;
+import seedu.application.logic.commands.ExportCommand;
 import seedu.application.logic.commands.FindCommand;
 import seedu.application.logic.commands.HelpCommand;
+import seedu.application.logic.commands.ImportCommand;
 import seedu.application.logic.commands.ListCommand;
+import seedu.application.logic.commands.SortCommand;
 import seedu.application.logic.parser.exceptions.ParseException;
 
 /**
@@ -59,7 +62,16 @@ public class ApplicationBookParser {
             return new FindCommandParser().parse(arguments);
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -0,0 +1,45 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.application.commons.util.FileUtil;
+import seedu.application.logic.commands.ExportCommand;
+import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.storage.ApplicationExporter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * The first argument is the file, whose format is given by its extension, and any arguments after it are
+     * parsed by {@link QueryParser}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String[] fileAndQuery = args.trim().split("\\s+", 2);
+        String file = fileAndQuery[0];
+        if (file.isEmpty() || !FileUtil.isValidPath(file)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = Paths.get(file);
+        Optional<ApplicationExporter.Format> format = ApplicationExporter.Format.of(filePath);
+        if (!format.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        if (fileAndQuery.length == 1) {
+            return new ExportCommand(filePath, format.get());
+        }
+        return new ExportCommand(filePath, format.get(), new QueryParser().parse(fileAndQuery[1]));
+    }
+
+}
@@ -17,19 +17,36 @@ public class FindCommandParser implements Parser<FindCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Arguments that are only keywords are searched for in the company and position, as they always have been;
+     * anything else is parsed by {@link QueryParser}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        boolean isExplained = trimmedArgs.equals(FindCommand.EXPLAIN_FLAG)
+                || trimmedArgs.startsWith(FindCommand.EXPLAIN_FLAG + " ");
+        if (isExplained) {
+            trimmedArgs = trimmedArgs.substring(FindCommand.EXPLAIN_FLAG.length()).trim();
+        }
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (isExplained || QueryParser.isQuery(trimmedArgs)) {
+            return new FindCommand(new QueryParser().parse(trimmedArgs), isExplained);
+        }
+
         String[] keywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new CompanyContainsKeywordsPredicate(Arrays.asList(keywords)),
-                new PositionContainsKeywordsPredicate(Arrays.asList(keywords)));
+        try {
+            return new FindCommand(new CompanyContainsKeywordsPredicate(Arrays.asList(keywords)),
+                    new PositionContainsKeywordsPredicate(Arrays.asList(keywords)));
+        } catch (IllegalArgumentException iae) {
+            // a keyword that is only a marker, such as a lone *, has no word to search for
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE), iae);
+        }
     }
 
 }
@@ -0,0 +1,31 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.application.logic.commands.ListCommand;
+import seedu.application.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Arguments other than a date range are ignored, as they always have been.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+        Optional<String> range = argMultimap.getValue(PREFIX_DATE);
+        if (!range.isPresent()) {
+            return new ListCommand();
+        }
+        return new ListCommand(ParserUtil.parseDateRange(range.get(), LocalDate.now()));
+    }
+
+}
@@ -2,14 +2,20 @@ package seedu.application.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import seedu.application.commons.core.index.Index;
 import seedu.application.commons.util.StringUtil;
 import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.model.application.ApplicationComparator;
+import seedu.application.model.application.ApplicationComparator.SortKey;
 import seedu.application.model.application.Company;
 import seedu.application.model.application.Contact;
 import seedu.application.model.application.Date;
 import seedu.application.model.application.Email;
 import seedu.application.model.application.Position;
+import seedu.application.model.query.DateQuery;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -17,6 +23,13 @@ import seedu.application.model.application.Position;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Date ranges should be one of:\n"
+            + "    DATE, for applications made on that date, with DATE in the format yyyy-mm-dd\n"
+            + "    >DATE, >=DATE, <DATE or <=DATE, for applications made after, from, before or up to DATE\n"
+            + "    DATE..DATE, for applications made between the two dates, both inclusive\n"
+            + "    lastN, for applications made in the N days up to and including today";
+
+    public static final String DATE_RANGE_LAST_DAYS = "last";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -105,4 +118,82 @@ public class ParserUtil {
         }
         return new Date(trimmedDate);
     }
+
+    /**
+     * Parses a {@code String sortKey} into a {@code SortKey}: the name of a field, preceded by
+     * {@code SortKey.DESCENDING_MARKER} for descending order.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code sortKey} is invalid.
+     */
+    public static SortKey parseSortKey(String sortKey) throws ParseException {
+        requireNonNull(sortKey);
+        String trimmedSortKey = sortKey.trim();
+        boolean isDescending = trimmedSortKey.startsWith(SortKey.DESCENDING_MARKER);
+        String fieldName = isDescending
+                ? trimmedSortKey.substring(SortKey.DESCENDING_MARKER.length())
+                : trimmedSortKey;
+        Optional<ApplicationComparator.Field> field = ApplicationComparator.Field.fromName(fieldName);
+        if (!field.isPresent()) {
+            throw new ParseException(ApplicationComparator.MESSAGE_CONSTRAINTS);
+        }
+        return new SortKey(field.get(), isDescending);
+    }
+
+    /**
+     * Parses a {@code String range} into a {@code DateQuery} for the dates in that range, where the last days are
+     * counted back from {@code today}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code range} is invalid.
+     */
+    public static DateQuery parseDateRange(String range, LocalDate today) throws ParseException {
+        requireNonNull(range);
+        requireNonNull(today);
+        String trimmedRange = range.trim();
+
+        if (trimmedRange.startsWith(DATE_RANGE_LAST_DAYS)) {
+            String days = trimmedRange.substring(DATE_RANGE_LAST_DAYS.length());
+            if (!StringUtil.isNonZeroUnsignedInteger(days)) {
+                throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+            }
+            return new DateQuery(today.minusDays(Integer.parseInt(days) - 1L), today);
+        }
+
+        int separator = trimmedRange.indexOf(DateQuery.RANGE_SEPARATOR);
+        if (separator >= 0) {
+            LocalDate from = parseRangeBound(trimmedRange.substring(0, separator));
+            LocalDate to = parseRangeBound(trimmedRange.substring(separator + DateQuery.RANGE_SEPARATOR.length()));
+            if (from == null && to == null) {
+                throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+            }
+            return new DateQuery(from, to);
+        }
+
+        if (trimmedRange.startsWith(">=")) {
+            return new DateQuery(parseRangeDate(trimmedRange.substring(2)), null);
+        } else if (trimmedRange.startsWith("<=")) {
+            return new DateQuery(null, parseRangeDate(trimmedRange.substring(2)));
+        } else if (trimmedRange.startsWith(">")) {
+            return new DateQuery(parseRangeDate(trimmedRange.substring(1)).plusDays(1), null);
+        } else if (trimmedRange.startsWith("<")) {
+            return new DateQuery(null, parseRangeDate(trimmedRange.substring(1)).minusDays(1));
+        } else {
+            LocalDate date = parseRangeDate(trimmedRange);
+            return new DateQuery(date, date);
+        }
+    }
+
+    /**
+     * Parses one end of a range of the form {@code DATE..DATE}, where an empty end leaves the range open.
+     */
+    private static LocalDate parseRangeBound(String bound) throws ParseException {
+        return bound.isEmpty() ? null : parseRangeDate(bound);
+    }
+
+    private static LocalDate parseRangeDate(String date) throws ParseException {
+        if (!Date.isValidDate(date)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new Date(date).value;
+    }
 }
@@ -0,0 +1,246 @@
+package seedu.application.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_COMPANY;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.application.logic.parser.CliSyntax.PREFIX_POSITION;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.application.commons.util.Keyword;
+import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.model.application.Email;
+import seedu.application.model.query.AndQuery;
+import seedu.application.model.query.DateQuery;
+import seedu.application.model.query.EmailQuery;
+import seedu.application.model.query.KeywordQuery;
+import seedu.application.model.query.NotQuery;
+import seedu.application.model.query.OrQuery;
+import seedu.application.model.query.Query;
+
+/**
+ * Parses the query language of the find command into a {@code Query}.
+ * A query is made of terms, which are combined with the operators {@code AND}, {@code OR} and {@code NOT}
+ * and grouped with parentheses. Terms written next to each other without an operator are combined with
+ * {@code OR}, and {@code A NOT B} means {@code A AND NOT B}. {@code NOT} binds tightest and {@code OR} loosest.
+ *
+ * A term is one of
+ * <ul>
+ *     <li>{@code c/KEYWORD} or {@code p/KEYWORD}, a keyword in the company or position</li>
+ *     <li>{@code e/ADDRESS} or {@code e/*@DOMAIN}, an email address or any email at a domain</li>
+ *     <li>{@code d/RANGE}, a range of dates the application was made in, as parsed by
+ *     {@link ParserUtil#parseDateRange(String, LocalDate)}</li>
+ *     <li>{@code KEYWORD}, a keyword in either the company or the position</li>
+ * </ul>
+ */
+public class QueryParser {
+
+    public static final String OPERATOR_AND = AndQuery.OPERATOR;
+    public static final String OPERATOR_OR = OrQuery.OPERATOR;
+    public static final String OPERATOR_NOT = NotQuery.OPERATOR;
+    public static final String OPEN_PARENTHESIS = "(";
+    public static final String CLOSE_PARENTHESIS = ")";
+
+    public static final String MESSAGE_UNEXPECTED_END = "Query ends where a term was expected";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in query";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "Query is missing a closing parenthesis";
+    public static final String MESSAGE_INVALID_KEYWORD = "Term %1$s should be followed by a single keyword";
+    public static final String MESSAGE_INVALID_EMAIL = "Term %1$s should be an email address, or *@ and a domain";
+    public static final String MESSAGE_INVALID_DATE = "Term %1$s should be a date range";
+
+    private final Clock clock;
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Creates a {@code QueryParser} that counts relative date ranges back from the current date.
+     */
+    public QueryParser() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code QueryParser} that counts relative date ranges back from the current date of {@code clock}.
+     */
+    public QueryParser(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns true if {@code args} uses any part of the query language beyond plain keywords.
+     */
+    public static boolean isQuery(String args) {
+        for (String token : tokenize(args)) {
+            if (isOperator(token) || token.equals(OPEN_PARENTHESIS) || token.equals(CLOSE_PARENTHESIS)
+                    || isFieldTerm(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code Query}.
+     *
+     * @throws ParseException if {@code args} is not a valid query.
+     */
+    public Query parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        Query query = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(position)));
+        }
+        return query;
+    }
+
+    /**
+     * Splits {@code args} at whitespace, with every parenthesis a token of its own.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (char c : args.toCharArray()) {
+            if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (token.length() > 0) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                token.append(c);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(OPERATOR_NOT);
+    }
+
+    private static boolean isFieldTerm(String token) {
+        return token.startsWith(PREFIX_COMPANY.getPrefix()) || token.startsWith(PREFIX_POSITION.getPrefix())
+                || token.startsWith(PREFIX_EMAIL.getPrefix()) || token.startsWith(PREFIX_DATE.getPrefix());
+    }
+
+    private boolean isNext(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (position < tokens.size() && !isNext(CLOSE_PARENTHESIS)) {
+            if (isNext(OPERATOR_OR)) {
+                position++;
+            }
+            queries.add(parseAnd());
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseNot());
+        while (true) {
+            if (isNext(OPERATOR_AND)) {
+                position++;
+                queries.add(parseNot());
+            } else if (isNext(OPERATOR_NOT)) {
+                queries.add(parseNot());
+            } else {
+                break;
+            }
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (isNext(OPERATOR_NOT)) {
+            position++;
+            return new NotQuery(parseNot());
+        }
+        return parseAtom();
+    }
+
+    private Query parseAtom() throws ParseException {
+        if (position >= tokens.size()) {
+            throw new ParseException(MESSAGE_UNEXPECTED_END);
+        }
+        String token = tokens.get(position++);
+        if (token.equals(OPEN_PARENTHESIS)) {
+            Query query = parseOr();
+            if (!isNext(CLOSE_PARENTHESIS)) {
+                throw new ParseException(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            position++;
+            return query;
+        }
+        if (token.equals(CLOSE_PARENTHESIS) || isOperator(token)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        return parseTerm(token);
+    }
+
+    private Query parseTerm(String token) throws ParseException {
+        if (token.startsWith(PREFIX_COMPANY.getPrefix())) {
+            return new KeywordQuery(KeywordQuery.Field.COMPANY,
+                    parseKeyword(token, token.substring(PREFIX_COMPANY.getPrefix().length())));
+        } else if (token.startsWith(PREFIX_POSITION.getPrefix())) {
+            return new KeywordQuery(KeywordQuery.Field.POSITION,
+                    parseKeyword(token, token.substring(PREFIX_POSITION.getPrefix().length())));
+        } else if (token.startsWith(PREFIX_EMAIL.getPrefix())) {
+            return parseEmail(token, token.substring(PREFIX_EMAIL.getPrefix().length()));
+        } else if (token.startsWith(PREFIX_DATE.getPrefix())) {
+            return parseDate(token, token.substring(PREFIX_DATE.getPrefix().length()));
+        } else {
+            Keyword keyword = parseKeyword(token, token);
+            return new OrQuery(Arrays.asList(new KeywordQuery(KeywordQuery.Field.COMPANY, keyword),
+                    new KeywordQuery(KeywordQuery.Field.POSITION, keyword)));
+        }
+    }
+
+    private static Keyword parseKeyword(String token, String word) throws ParseException {
+        try {
+            return new Keyword(word);
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException(String.format(MESSAGE_INVALID_KEYWORD, token), iae);
+        }
+    }
+
+    private static Query parseEmail(String token, String pattern) throws ParseException {
+        String anyAddressAt = EmailQuery.ANY_LOCAL_PART + "@";
+        if (pattern.startsWith(anyAddressAt)) {
+            String domain = pattern.substring(anyAddressAt.length());
+            // any valid address at the domain shows whether the domain is valid
+            if (!Email.isValidEmail("a@" + domain)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_EMAIL, token));
+            }
+            return EmailQuery.ofDomain(domain);
+        }
+        if (!Email.isValidEmail(pattern)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_EMAIL, token));
+        }
+        return EmailQuery.ofAddress(pattern);
+    }
+
+    private Query parseDate(String token, String range) throws ParseException {
+        try {
+            return ParserUtil.parseDateRange(range, LocalDate.now(clock));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DATE, token) + "\n" + pe.getMessage(), pe);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.application.logic.commands.SortCommand;
+import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.model.application.ApplicationComparator;
+import seedu.application.model.application.ApplicationComparator.SortKey;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        if (trimmedArgs.equalsIgnoreCase(SortCommand.ADDED_ORDER)) {
+            return new SortCommand();
+        }
+
+        List<SortKey> sortKeys = new ArrayList<>();
+        for (String sortKey : trimmedArgs.split("\\s+")) {
+            sortKeys.add(ParserUtil.parseSortKey(sortKey));
+        }
+        if (!ApplicationComparator.isValidSortKeys(sortKeys)) {
+            throw new ParseException(ApplicationComparator.MESSAGE_CONSTRAINTS);
+        }
+        return new SortCommand(new ApplicationComparator(sortKeys));
+    }
+
+}
@@ -2,19 +2,39 @@ package seedu.application.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
+import seedu.application.commons.util.Keyword;
+import seedu.application.commons.util.StringUtil;
 import seedu.application.model.application.Application;
+import seedu.application.model.application.KeywordIndex;
 import seedu.application.model.application.UniqueApplicationList;
+import seedu.application.model.application.ValueIndex;
+import seedu.application.model.query.ApplicationIndex;
 
 /**
  * Wraps all data at the application-book level.
  * Duplicates are not allowed (by .isSameApplication comparison).
+ * The words of each application's company and position, its email domain and its date are kept in indexes,
+ * which every mutation updates together with the application list.
  */
-public class ApplicationBook implements ReadOnlyApplicationBook {
+public class ApplicationBook implements ReadOnlyApplicationBook, ApplicationIndex {
+
+    /** Source of change versions, shared by all application books so that versions are never reused. */
+    private static final AtomicLong versionSequence = new AtomicLong();
 
     private final UniqueApplicationList applications;
+    private final KeywordIndex companyIndex = new KeywordIndex(application -> application.getCompany().company);
+    private final KeywordIndex positionIndex = new KeywordIndex(application -> application.getPosition().value);
+    private final ValueIndex<String> emailDomainIndex = new ValueIndex<>(application ->
+            StringUtil.toCaseInsensitiveKey(application.getEmail().getDomain()));
+    private final ValueIndex<Long> dateIndex = new ValueIndex<>(application ->
+            application.getDate().value.toEpochDay());
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +65,15 @@ public class ApplicationBook implements ReadOnlyApplicationBook {
      */
     public void setApplications(List<Application> applications) {
         this.applications.setApplications(applications);
+        companyIndex.clear();
+        companyIndex.addAll(applications);
+        positionIndex.clear();
+        positionIndex.addAll(applications);
+        emailDomainIndex.clear();
+        emailDomainIndex.addAll(applications);
+        dateIndex.clear();
+        dateIndex.addAll(applications);
+        markChanged();
     }
 
     /**
@@ -72,6 +101,22 @@ public class ApplicationBook implements ReadOnlyApplicationBook {
      */
     public void addApplication(Application p) {
         applications.add(p);
+        addToIndexes(p);
+        markChanged();
+    }
+
+    /**
+     * Adds {@code applications} to the application book, in order, as a single change of the application list
+     * and a single new version of the application book.
+     * None of the applications may already exist in the application book, or be the same as another one of them.
+     */
+    public void addApplications(List<Application> applications) {
+        this.applications.addAll(applications);
+        companyIndex.addAll(applications);
+        positionIndex.addAll(applications);
+        emailDomainIndex.addAll(applications);
+        dateIndex.addAll(applications);
+        markChanged();
     }
 
     /**
@@ -84,6 +129,9 @@ public class ApplicationBook implements ReadOnlyApplicationBook {
         requireNonNull(editedApplication);
 
         applications.setApplication(target, editedApplication);
+        removeFromIndexes(target);
+        addToIndexes(editedApplication);
+        markChanged();
     }
 
     /**
@@ -92,6 +140,73 @@ public class ApplicationBook implements ReadOnlyApplicationBook {
      */
     public void removeApplication(Application key) {
         applications.remove(key);
+        removeFromIndexes(key);
+        markChanged();
+    }
+
+    @Override
+    public Set<Application> findByCompany(Keyword keyword) {
+        return companyIndex.find(keyword);
+    }
+
+    @Override
+    public int countByCompany(Keyword keyword) {
+        return companyIndex.count(keyword);
+    }
+
+    @Override
+    public Set<Application> findByPosition(Keyword keyword) {
+        return positionIndex.find(keyword);
+    }
+
+    @Override
+    public int countByPosition(Keyword keyword) {
+        return positionIndex.count(keyword);
+    }
+
+    @Override
+    public Set<Application> findByEmailDomain(String domain) {
+        return emailDomainIndex.find(StringUtil.toCaseInsensitiveKey(domain));
+    }
+
+    @Override
+    public int countByEmailDomain(String domain) {
+        return emailDomainIndex.count(StringUtil.toCaseInsensitiveKey(domain));
+    }
+
+    @Override
+    public Set<Application> findByDate(LocalDate from, LocalDate to) {
+        return dateIndex.findRange(toEpochDay(from), true, toEpochDay(to), true);
+    }
+
+    @Override
+    public int countByDate(LocalDate from, LocalDate to) {
+        return dateIndex.countRange(toEpochDay(from), true, toEpochDay(to), true);
+    }
+
+    private static Long toEpochDay(LocalDate date) {
+        return date == null ? null : date.toEpochDay();
+    }
+
+    private void addToIndexes(Application application) {
+        companyIndex.add(application);
+        positionIndex.add(application);
+        emailDomainIndex.add(application);
+        dateIndex.add(application);
+    }
+
+    private void removeFromIndexes(Application application) {
+        companyIndex.remove(application);
+        positionIndex.remove(application);
+        emailDomainIndex.remove(application);
+        dateIndex.remove(application);
+    }
+
+    /**
+     * Moves this {@code ApplicationBook} to a new change version.
+     */
+    private void markChanged() {
+        version = versionSequence.incrementAndGet();
     }
 
     //// util methods
@@ -107,6 +222,11 @@ public class ApplicationBook implements ReadOnlyApplicationBook {
         return applications.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
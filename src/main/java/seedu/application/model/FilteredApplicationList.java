@@ -0,0 +1,144 @@
+package seedu.application.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
+import seedu.application.model.query.Query;
+import seedu.application.model.query.QueryResult;
+
+/**
+ * The applications of an application book that pass the current filter, in the current order.
+ * Changes to the application book are applied incrementally: only the applications that were added or replaced
+ * are tested against the filter and positioned in the order, and listeners of the list are told about just the
+ * rows that changed. Setting a new filter or order is the only operation that visits every application.
+ *
+ * A filter can be set from the result of a query. Every application is then filtered by looking it up in the
+ * result, and only the applications changed afterwards are tested against the query itself. The parts of each
+ * application that the query matched are worked out the first time they are asked for, and kept until the filter
+ * changes, so showing an application again costs no matching.
+ */
+class FilteredApplicationList {
+
+    private final FilteredList<Application> filteredApplications;
+    private final SortedApplicationList sortedApplications;
+    private final Map<Application, Highlights> highlights = new HashMap<>();
+    private Query query;
+
+    /**
+     * Creates a {@code FilteredApplicationList} that shows all the applications in {@code applicationBook}.
+     */
+    FilteredApplicationList(ReadOnlyApplicationBook applicationBook) {
+        requireNonNull(applicationBook);
+        filteredApplications = new FilteredList<>(applicationBook.getApplicationList());
+        sortedApplications = new SortedApplicationList(filteredApplications);
+    }
+
+    /**
+     * Returns an unmodifiable view of the filtered applications in the current order.
+     */
+    ObservableList<Application> asUnmodifiableObservableList() {
+        return sortedApplications;
+    }
+
+    /**
+     * Orders the applications by {@code comparator}, or in the order they were added if it is null.
+     */
+    void setComparator(Comparator<Application> comparator) {
+        sortedApplications.setComparator(comparator);
+    }
+
+    /**
+     * Filters the applications with {@code predicate}.
+     */
+    void setPredicate(Predicate<Application> predicate) {
+        requireNonNull(predicate);
+        setQuery(null);
+        filteredApplications.setPredicate(predicate);
+    }
+
+    /**
+     * Filters the applications to the matches in {@code result}, which must have been found by {@code query} in
+     * the current state of the application book.
+     */
+    void setQueryResult(Query query, QueryResult result) {
+        requireNonNull(query);
+        requireNonNull(result);
+        setQuery(query);
+        QueryResultPredicate predicate = new QueryResultPredicate(query, result.getMatches());
+        filteredApplications.setPredicate(predicate);
+        predicate.isFiltered = true;
+    }
+
+    private void setQuery(Query query) {
+        this.query = query;
+        highlights.clear();
+    }
+
+    /**
+     * Returns the parts of {@code application} that the query filtering the applications matched, or no parts if
+     * the applications are not filtered by a query.
+     */
+    Highlights getHighlights(Application application) {
+        requireNonNull(application);
+        if (query == null) {
+            return Highlights.NONE;
+        }
+        return highlights.computeIfAbsent(application, query::highlight);
+    }
+
+    /**
+     * Makes sure that {@code application}, which has just been added, is shown. The current filter is kept if it
+     * matches the application, and all applications are shown otherwise.
+     */
+    void reveal(Application application) {
+        requireNonNull(application);
+        reveal(List.of(application));
+    }
+
+    /**
+     * Makes sure that {@code applications}, which have just been added, are shown. The current filter is kept if it
+     * matches all the applications, and all applications are shown otherwise.
+     */
+    void reveal(List<Application> applications) {
+        requireNonNull(applications);
+        Predicate<? super Application> predicate = filteredApplications.getPredicate();
+        if (predicate != null && !applications.stream().allMatch(predicate)) {
+            setPredicate(Model.PREDICATE_SHOW_ALL_APPLICATIONS);
+        }
+    }
+
+    /**
+     * Tests applications by looking them up in the matches of a query. Once the list has been filtered, the
+     * predicate is only asked about applications added or replaced since, which are tested against the query itself.
+     */
+    private static class QueryResultPredicate implements Predicate<Application> {
+        private final Query query;
+        private final Set<Application> matches;
+        private boolean isFiltered;
+
+        private QueryResultPredicate(Query query, Set<Application> matches) {
+            this.query = query;
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean test(Application application) {
+            // Applications are immutable and queries depend only on their fields, so a match stays a match.
+            if (matches.contains(application)) {
+                return true;
+            }
+            return isFiltered && query.test(application);
+        }
+    }
+
+}
@@ -1,11 +1,16 @@
 package seedu.application.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.application.commons.core.GuiSettings;
 import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
+import seedu.application.model.query.Query;
+import seedu.application.model.query.QueryResult;
 
 /**
  * The API of the Model component.
@@ -66,9 +71,17 @@ public interface Model {
     /**
      * Adds the given application.
      * {@code application} must not already exist in the application book.
+     * The filter of the filtered application list is kept if it matches the application, and cleared otherwise.
      */
     void addApplication(Application application);
 
+    /**
+     * Adds the given applications, in order, as a single change of the application book.
+     * None of {@code applications} may already exist in the application book, or be the same as another of them.
+     * The filter of the filtered application list is kept if it matches all the applications, and cleared otherwise.
+     */
+    void addApplications(List<Application> applications);
+
     /**
      * Replaces the given application {@code target} with {@code editedApplication}.
      * {@code target} must exist in the application book.
@@ -77,6 +90,13 @@ public interface Model {
      */
     void setApplication(Application target, Application editedApplication);
 
+    /**
+     * Updates the filter of the filtered application list to show the applications that {@code query} matches,
+     * and returns them with the plan that found them.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryResult findApplications(Query query);
+
     /** Returns an unmodifiable view of the filtered application list */
     ObservableList<Application> getFilteredApplicationList();
 
@@ -85,4 +105,16 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredApplicationList(Predicate<Application> predicate);
+
+    /**
+     * Returns the parts of the fields of {@code application}, from the filtered application list, that the query
+     * it was found by matched. Returns {@code Highlights.NONE} if the list is not filtered by a query.
+     */
+    Highlights getHighlights(Application application);
+
+    /**
+     * Orders the filtered application list by {@code comparator}, or in the order the applications were added if
+     * {@code comparator} is null. The order is kept as applications are added, edited and deleted.
+     */
+    void sortFilteredApplicationList(Comparator<Application> comparator);
 }
@@ -4,14 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.application.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.application.commons.core.GuiSettings;
 import seedu.application.commons.core.LogsCenter;
 import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
+import seedu.application.model.query.Query;
+import seedu.application.model.query.QueryCache;
+import seedu.application.model.query.QueryResult;
 
 /**
  * Represents the in-memory model of the application book data.
@@ -21,23 +26,44 @@ public class ModelManager implements Model {
 
     private final ApplicationBook applicationBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Application> filteredApplications;
+    private final FilteredApplicationList filteredApplications;
+    private final QueryCache queryCache = new QueryCache();
 
     /**
-     * Initializes a ModelManager with the given applicationBook and userPrefs.
+     * Initializes a ModelManager with copies of the given applicationBook and userPrefs.
      */
     public ModelManager(ReadOnlyApplicationBook applicationBook, ReadOnlyUserPrefs userPrefs) {
+        this(new ApplicationBook(applicationBook), new UserPrefs(userPrefs));
+    }
+
+    public ModelManager() {
+        this(new ApplicationBook(), new UserPrefs());
+    }
+
+    /**
+     * Initializes a ModelManager that keeps the given applicationBook and userPrefs themselves.
+     */
+    private ModelManager(ApplicationBook applicationBook, UserPrefs userPrefs) {
         requireAllNonNull(applicationBook, userPrefs);
 
         logger.fine("Initializing with application book: " + applicationBook + " and user prefs " + userPrefs);
 
-        this.applicationBook = new ApplicationBook(applicationBook);
-        this.userPrefs = new UserPrefs(userPrefs);
-        filteredApplications = new FilteredList<>(this.applicationBook.getApplicationList());
+        this.applicationBook = applicationBook;
+        this.userPrefs = userPrefs;
+        filteredApplications = new FilteredApplicationList(this.applicationBook);
     }
 
-    public ModelManager() {
-        this(new ApplicationBook(), new UserPrefs());
+    /**
+     * Returns a ModelManager with the given applicationBook, such as one just read from storage, and a copy of
+     * userPrefs. If applicationBook is an {@code ApplicationBook}, it is used by the ModelManager itself instead
+     * of being copied, so that its indexes are not built again, and the caller must not use it afterwards.
+     */
+    public static ModelManager adopting(ReadOnlyApplicationBook applicationBook, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(applicationBook);
+        if (!(applicationBook instanceof ApplicationBook)) {
+            return new ModelManager(applicationBook, userPrefs);
+        }
+        return new ModelManager((ApplicationBook) applicationBook, new UserPrefs(userPrefs));
     }
 
     //=========== UserPrefs ==================================================================================
@@ -101,7 +127,14 @@ public class ModelManager implements Model {
     @Override
     public void addApplication(Application application) {
         applicationBook.addApplication(application);
-        updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
+        filteredApplications.reveal(application);
+    }
+
+    @Override
+    public void addApplications(List<Application> applications) {
+        requireNonNull(applications);
+        applicationBook.addApplications(applications);
+        filteredApplications.reveal(applications);
     }
 
     @Override
@@ -111,6 +144,15 @@ public class ModelManager implements Model {
         applicationBook.setApplication(target, editedApplication);
     }
 
+    @Override
+    public QueryResult findApplications(Query query) {
+        requireNonNull(query);
+        QueryResult result = queryCache.execute(query, applicationBook);
+        logger.fine("Query cache after " + query + ": " + queryCache);
+        filteredApplications.setQueryResult(query, result);
+        return result;
+    }
+
     //=========== Filtered Application List Accessors =============================================================
 
     /**
@@ -119,7 +161,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Application> getFilteredApplicationList() {
-        return filteredApplications;
+        return filteredApplications.asUnmodifiableObservableList();
     }
 
     @Override
@@ -128,6 +170,16 @@ public class ModelManager implements Model {
         filteredApplications.setPredicate(predicate);
     }
 
+    @Override
+    public Highlights getHighlights(Application application) {
+        return filteredApplications.getHighlights(application);
+    }
+
+    @Override
+    public void sortFilteredApplicationList(Comparator<Application> comparator) {
+        filteredApplications.setComparator(comparator);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -144,7 +196,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return applicationBook.equals(other.applicationBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredApplications.equals(other.filteredApplications);
+                && getFilteredApplicationList().equals(other.getFilteredApplicationList());
     }
 
 }
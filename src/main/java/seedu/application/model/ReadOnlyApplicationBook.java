@@ -14,4 +14,11 @@ public interface ReadOnlyApplicationBook {
      */
     ObservableList<Application> getApplicationList();
 
+    /**
+     * Returns the change version of this application book.
+     * The version changes whenever the applications change, and versions are never reused across
+     * application books, so two application books with the same version have the same applications.
+     */
+    long getVersion();
+
 }
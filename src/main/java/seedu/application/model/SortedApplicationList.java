@@ -0,0 +1,200 @@
+package seedu.application.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.application.model.application.Application;
+
+/**
+ * A view of a list of applications in the order of a comparator, or in the order of the list itself when there is
+ * no comparator.
+ * The view keeps its own sorted copy of the applications. When applications are added to or removed from the
+ * source list, only those applications are positioned, by binary search, so a change costs O(log n) comparisons
+ * instead of a sort of the whole list. Many applications added at once are sorted among themselves and merged into
+ * the view in one pass. The view is only sorted in full when the comparator is set, or when a change replaces every
+ * application in it.
+ *
+ * Distinct applications must never compare as equal, as is the case for an
+ * {@link seedu.application.model.application.ApplicationComparator}.
+ */
+class SortedApplicationList extends TransformationList<Application, Application> {
+
+    private final List<Application> applications;
+    private Comparator<Application> comparator;
+
+    /**
+     * Creates a {@code SortedApplicationList} of {@code source} in the order of {@code source}.
+     */
+    SortedApplicationList(ObservableList<? extends Application> source) {
+        super(source);
+        applications = new ArrayList<>(source);
+    }
+
+    /**
+     * Orders the view by {@code comparator}, or in the order of the source list if it is null.
+     * Listeners are told of the new order as a permutation of the view.
+     */
+    void setComparator(Comparator<Application> comparator) {
+        this.comparator = comparator;
+        Map<Application, Integer> oldIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < applications.size(); i++) {
+            oldIndexes.put(applications.get(i), i);
+        }
+        applications.clear();
+        applications.addAll(getSource());
+        if (comparator != null) {
+            applications.sort(comparator);
+        }
+        if (applications.isEmpty()) {
+            return;
+        }
+
+        int[] permutation = new int[applications.size()];
+        for (int i = 0; i < applications.size(); i++) {
+            permutation[oldIndexes.get(applications.get(i))] = i;
+        }
+        beginChange();
+        nextPermutation(0, applications.size(), permutation);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Application> c) {
+        beginChange();
+        while (c.next()) {
+            if (comparator == null) {
+                mirror(c);
+            } else if (c.wasPermutated()) {
+                // the order of the source does not change the order of the view
+                continue;
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(findIndex(getSource().get(i)));
+                }
+            } else if (c.getRemovedSize() == applications.size()) {
+                replaceAll(c);
+            } else {
+                for (Application removed : c.getRemoved()) {
+                    int index = findIndex(removed);
+                    applications.remove(index);
+                    nextRemove(index, removed);
+                }
+                if (c.getAddedSize() == 1) {
+                    Application added = c.getAddedSubList().get(0);
+                    int index = -findIndex(added) - 1;
+                    applications.add(index, added);
+                    nextAdd(index, index + 1);
+                } else if (c.wasAdded()) {
+                    mergeAll(c.getAddedSubList());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Applies {@code c} to the view as it is, as the view is in the order of the source.
+     */
+    private void mirror(Change<? extends Application> c) {
+        if (c.wasPermutated()) {
+            int[] permutation = new int[c.getTo() - c.getFrom()];
+            for (int i = c.getFrom(); i < c.getTo(); i++) {
+                permutation[i - c.getFrom()] = c.getPermutation(i);
+                applications.set(i, getSource().get(i));
+            }
+            nextPermutation(c.getFrom(), c.getTo(), permutation);
+        } else if (c.wasUpdated()) {
+            for (int i = c.getFrom(); i < c.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            applications.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+            applications.addAll(c.getFrom(), c.getAddedSubList());
+            if (c.wasRemoved()) {
+                nextRemove(c.getFrom(), new ArrayList<>(c.getRemoved()));
+            }
+            if (c.wasAdded()) {
+                nextAdd(c.getFrom(), c.getTo());
+            }
+        }
+    }
+
+    /**
+     * Adds {@code added} to the view by sorting them and merging them into the view in a single pass, so adding
+     * many applications at once does not shift the view once for each of them.
+     */
+    private void mergeAll(List<? extends Application> added) {
+        List<Application> sortedAdded = new ArrayList<>(added);
+        sortedAdded.sort(comparator);
+        List<Application> merged = new ArrayList<>(applications.size() + sortedAdded.size());
+        int[] addedIndexes = new int[sortedAdded.size()];
+        int viewIndex = 0;
+        for (int i = 0; i < sortedAdded.size(); i++) {
+            Application application = sortedAdded.get(i);
+            while (viewIndex < applications.size()
+                    && comparator.compare(applications.get(viewIndex), application) < 0) {
+                merged.add(applications.get(viewIndex++));
+            }
+            addedIndexes[i] = merged.size();
+            merged.add(application);
+        }
+        merged.addAll(applications.subList(viewIndex, applications.size()));
+        applications.clear();
+        applications.addAll(merged);
+        for (int index : addedIndexes) {
+            nextAdd(index, index + 1);
+        }
+    }
+
+    /**
+     * Applies {@code c}, which removes every application in the view, by sorting the added applications afresh.
+     */
+    private void replaceAll(Change<? extends Application> c) {
+        List<Application> removed = new ArrayList<>(applications);
+        applications.clear();
+        applications.addAll(c.getAddedSubList());
+        applications.sort(comparator);
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!applications.isEmpty()) {
+            nextAdd(0, applications.size());
+        }
+    }
+
+    /**
+     * Returns the index of {@code application} in the sorted view, or {@code -(insertion point) - 1} if it is not
+     * in the view.
+     */
+    private int findIndex(Application application) {
+        return Collections.binarySearch(applications, application, comparator);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return comparator == null ? index : getSource().indexOf(applications.get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return comparator == null ? index : findIndex(getSource().get(index));
+    }
+
+    @Override
+    public Application get(int index) {
+        return applications.get(index);
+    }
+
+    @Override
+    public int size() {
+        return applications.size();
+    }
+
+}
@@ -0,0 +1,178 @@
+package seedu.application.model.application;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Orders applications by one or more sort keys, each ascending or descending. Later keys order the applications
+ * that earlier keys consider equal.
+ * Applications that all the keys consider equal are ordered by all of their fields, so only equal applications
+ * compare as equal and any list of distinct applications has exactly one order.
+ */
+public class ApplicationComparator implements Comparator<Application> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Sort keys should be company, position or date, each used "
+            + "at most once and optionally preceded by " + SortKey.DESCENDING_MARKER + " to sort in descending order";
+
+    /**
+     * Orders applications that the sort keys consider equal.
+     */
+    private static final Comparator<Application> TIE_BREAKER = Comparator
+            .comparing((Application application) -> application.getCompany().company)
+            .thenComparing(application -> application.getPosition().value)
+            .thenComparing(application -> application.getDate().value)
+            .thenComparing(application -> application.getEmail().value)
+            .thenComparing(application -> application.getContact().value);
+
+    /**
+     * A field that applications can be sorted by.
+     */
+    public enum Field {
+        COMPANY("company", Comparator.comparing(application -> application.getCompany().company,
+                String.CASE_INSENSITIVE_ORDER)),
+        POSITION("position", Comparator.comparing(application -> application.getPosition().value,
+                String.CASE_INSENSITIVE_ORDER)),
+        DATE("date", Comparator.comparing(application -> application.getDate().value));
+
+        private final String name;
+        private final Comparator<Application> order;
+
+        Field(String name, Comparator<Application> order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        /**
+         * Returns the field called {@code name}, ignoring case.
+         */
+        public static Optional<Field> fromName(String name) {
+            requireNonNull(name);
+            for (Field field : values()) {
+                if (field.name.equalsIgnoreCase(name)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * A field to sort by, and the direction to sort it in.
+     */
+    public static class SortKey {
+        public static final String DESCENDING_MARKER = "-";
+
+        private final Field field;
+        private final boolean isDescending;
+
+        /**
+         * Creates a {@code SortKey} that sorts by {@code field}, in descending order if {@code isDescending}.
+         */
+        public SortKey(Field field, boolean isDescending) {
+            requireNonNull(field);
+            this.field = field;
+            this.isDescending = isDescending;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public boolean isDescending() {
+            return isDescending;
+        }
+
+        private Comparator<Application> getOrder() {
+            return isDescending ? field.order.reversed() : field.order;
+        }
+
+        @Override
+        public String toString() {
+            return isDescending ? field + " descending" : field.toString();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SortKey // instanceof handles nulls
+                    && field == ((SortKey) other).field
+                    && isDescending == ((SortKey) other).isDescending); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return field.hashCode() * 2 + (isDescending ? 1 : 0);
+        }
+    }
+
+    private final List<SortKey> sortKeys;
+    private final Comparator<Application> order;
+
+    /**
+     * Creates an {@code ApplicationComparator} that sorts by {@code sortKeys} in turn.
+     * {@code sortKeys} must be valid, as told by {@link #isValidSortKeys(List)}.
+     */
+    public ApplicationComparator(List<SortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        checkArgument(isValidSortKeys(sortKeys), MESSAGE_CONSTRAINTS);
+        this.sortKeys = new ArrayList<>(sortKeys);
+        Comparator<Application> order = sortKeys.get(0).getOrder();
+        for (SortKey sortKey : sortKeys.subList(1, sortKeys.size())) {
+            order = order.thenComparing(sortKey.getOrder());
+        }
+        this.order = order.thenComparing(TIE_BREAKER);
+    }
+
+    /**
+     * Returns true if {@code sortKeys} has at least one key and sorts by no field more than once.
+     */
+    public static boolean isValidSortKeys(List<SortKey> sortKeys) {
+        Set<Field> fields = EnumSet.noneOf(Field.class);
+        for (SortKey sortKey : sortKeys) {
+            if (!fields.add(sortKey.getField())) {
+                return false;
+            }
+        }
+        return !fields.isEmpty();
+    }
+
+    public List<SortKey> getSortKeys() {
+        return new ArrayList<>(sortKeys);
+    }
+
+    @Override
+    public int compare(Application first, Application second) {
+        return order.compare(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return sortKeys.stream().map(SortKey::toString).collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ApplicationComparator // instanceof handles nulls
+                && sortKeys.equals(((ApplicationComparator) other).sortKeys)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return sortKeys.hashCode();
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.application.model.application;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * The identity of an {@code Application}, suitable for use as a hash key.
+ * Two applications have equal identities if and only if {@code Application#isSameApplication(Application)}
+ * holds between them.
+ */
+public class ApplicationIdentity {
+
+    private final Company company;
+    private final Position position;
+
+    /**
+     * Creates the identity of {@code application}.
+     */
+    public ApplicationIdentity(Application application) {
+        requireNonNull(application);
+        company = application.getCompany();
+        position = application.getPosition();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ApplicationIdentity // instanceof handles nulls
+                && company.equals(((ApplicationIdentity) other).company)
+                && position.equals(((ApplicationIdentity) other).position)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(company, position);
+    }
+
+    @Override
+    public String toString() {
+        return company + "; Position applied: " + position;
+    }
+}
@@ -2,23 +2,36 @@ package seedu.application.model.application;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.application.commons.util.StringUtil;
+import seedu.application.commons.util.Keyword;
 
 /**
  * Tests that an {@code Application}'s {@code Company} matches any of the keywords given.
  */
 public class CompanyContainsKeywordsPredicate implements Predicate<Application> {
-    private final List<String> keywords;
+    private final List<Keyword> keywords;
 
+    /**
+     * Creates a {@code CompanyContainsKeywordsPredicate} for the given keywords, each of which must be a single word.
+     */
     public CompanyContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        this.keywords = keywords.stream().map(Keyword::new).collect(Collectors.toList());
+    }
+
+    public List<Keyword> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Application application) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(application.getCompany().company, keyword));
+        String company = application.getCompany().company;
+        for (Keyword keyword : keywords) {
+            if (keyword.isWordIn(company)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
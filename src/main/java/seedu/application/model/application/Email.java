@@ -51,6 +51,13 @@ public class Email {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the domain of this email, which is the part after the {@code @}.
+     */
+    public String getDomain() {
+        return value.substring(value.lastIndexOf('@') + 1);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,173 @@
+package seedu.application.model.application;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.application.commons.util.Keyword;
+import seedu.application.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words of one field of applications to the applications whose field contains them.
+ * A keyword matches a word in the same way as {@link Keyword#isWordIn(String)}, so
+ * looking a keyword up gives the same applications as testing each application with that method, without
+ * visiting the applications that do not match.
+ *
+ * Words are kept in sorted order, so the words starting with a prefix form one range of the index, and in a
+ * {@link BkTree}, so fuzzy keywords only compare themselves with a few of the words that are indexed.
+ *
+ * The index does not observe the applications it holds; its owner must add and remove applications as they change.
+ */
+public class KeywordIndex {
+
+    private final Function<Application, String> field;
+    private final NavigableMap<String, Set<Application>> postings = new TreeMap<>();
+    // Holds every word in postings, and the words removed from it since the tree was last rebuilt.
+    private final BkTree vocabulary = new BkTree();
+
+    /**
+     * Creates an empty {@code KeywordIndex} over the words of the given {@code field} of applications.
+     */
+    public KeywordIndex(Function<Application, String> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Adds {@code application} under each of the words of its field.
+     */
+    public void add(Application application) {
+        requireNonNull(application);
+        for (String word : StringUtil.getWords(field.apply(application))) {
+            postings.computeIfAbsent(StringUtil.toCaseInsensitiveKey(word), key -> {
+                vocabulary.add(key);
+                return new HashSet<>();
+            }).add(application);
+        }
+    }
+
+    /**
+     * Adds every one of {@code applications}.
+     */
+    public void addAll(Iterable<Application> applications) {
+        for (Application application : applications) {
+            add(application);
+        }
+    }
+
+    /**
+     * Removes {@code application} from under each of the words of its field.
+     */
+    public void remove(Application application) {
+        requireNonNull(application);
+        for (String word : StringUtil.getWords(field.apply(application))) {
+            String key = StringUtil.toCaseInsensitiveKey(word);
+            Set<Application> applications = postings.get(key);
+            if (applications != null && applications.remove(application) && applications.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+        if (vocabulary.size() > 2 * postings.size()) {
+            rebuildVocabulary();
+        }
+    }
+
+    private void rebuildVocabulary() {
+        vocabulary.clear();
+        for (String key : postings.keySet()) {
+            vocabulary.add(key);
+        }
+    }
+
+    /**
+     * Removes all applications from the index.
+     */
+    public void clear() {
+        postings.clear();
+        vocabulary.clear();
+    }
+
+    /**
+     * Returns the applications whose field contains a word matched by {@code keyword}, ignoring case.
+     * The returned set is a copy, so it does not change when applications are later added to or removed from
+     * the index.
+     */
+    public Set<Application> find(Keyword keyword) {
+        requireNonNull(keyword);
+        switch (keyword.getMatchType()) {
+        case PREFIX:
+            return findByPrefix(keyword.getKey());
+        case FUZZY:
+            return findSimilar(keyword.getKey(), keyword.getMaxEdits());
+        default:
+            return new HashSet<>(postings.getOrDefault(keyword.getKey(), Collections.emptySet()));
+        }
+    }
+
+    private Set<Application> findByPrefix(String prefix) {
+        Set<Application> matches = new HashSet<>();
+        for (Set<Application> applications : getPrefixRange(prefix).values()) {
+            matches.addAll(applications);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the postings of the words whose key starts with {@code prefix}.
+     */
+    private NavigableMap<String, Set<Application>> getPrefixRange(String prefix) {
+        // Keys fold each character on its own, so a word starts with the prefix exactly when its key starts with
+        // the prefix's key, and those keys sort between the prefix and the prefix followed by the largest char.
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private Set<Application> findSimilar(String key, int maxEdits) {
+        Set<Application> matches = new HashSet<>();
+        for (String word : vocabulary.search(key, maxEdits)) {
+            matches.addAll(postings.getOrDefault(word, Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound of the number of applications that {@link #find(Keyword)} returns for
+     * {@code keyword}, without listing them. The bound is exact unless the keyword matches several words of
+     * one application.
+     */
+    public int count(Keyword keyword) {
+        requireNonNull(keyword);
+        int count = 0;
+        switch (keyword.getMatchType()) {
+        case PREFIX:
+            for (Set<Application> applications : getPrefixRange(keyword.getKey()).values()) {
+                count += applications.size();
+            }
+            return count;
+        case FUZZY:
+            for (String word : vocabulary.search(keyword.getKey(), keyword.getMaxEdits())) {
+                count += postings.getOrDefault(word, Collections.emptySet()).size();
+            }
+            return count;
+        default:
+            return postings.getOrDefault(keyword.getKey(), Collections.emptySet()).size();
+        }
+    }
+
+    /**
+     * Adds to {@code matches} the applications whose field contains a word matched by any of {@code keywords},
+     * ignoring case.
+     */
+    public void findAny(Collection<Keyword> keywords, Set<Application> matches) {
+        requireNonNull(matches);
+        for (Keyword keyword : keywords) {
+            matches.addAll(find(keyword));
+        }
+    }
+
+}
@@ -2,23 +2,36 @@ package seedu.application.model.application;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.application.commons.util.StringUtil;
+import seedu.application.commons.util.Keyword;
 
 /**
  * Tests that an {@code Application}'s {@code Position} matches any of the keywords given.
  */
 public class PositionContainsKeywordsPredicate implements Predicate<Application> {
-    private final List<String> keywords;
+    private final List<Keyword> keywords;
 
+    /**
+     * Creates a {@code PositionContainsKeywordsPredicate} for the given keywords, each of which must be a single word.
+     */
     public PositionContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        this.keywords = keywords.stream().map(Keyword::new).collect(Collectors.toList());
+    }
+
+    public List<Keyword> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Application application) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(application.getPosition().value, keyword));
+        String position = application.getPosition().value;
+        for (Keyword keyword : keywords) {
+            if (keyword.isWordIn(position)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -3,8 +3,12 @@ package seedu.application.model.application;
 import static java.util.Objects.requireNonNull;
 import static seedu.application.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,9 @@ import seedu.application.model.application.exceptions.DuplicateApplicationExcept
  * However, the removal of an application uses Application#equals(Object) to ensure that the application with
  * exactly the same fields will be removed.
  *
+ * Identities are additionally tracked in a hash index so that duplicate checks do not need to scan the list.
+ * The index is only ever changed together with the backing list, so the two always hold the same applications.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Application#isSameApplication(Application)
@@ -28,13 +35,14 @@ public class UniqueApplicationList implements Iterable<Application> {
     private final ObservableList<Application> internalList = FXCollections.observableArrayList();
     private final ObservableList<Application> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<ApplicationIdentity, Application> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent application as the given argument.
      */
     public boolean contains(Application toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameApplication);
+        return identityIndex.containsKey(new ApplicationIdentity(toCheck));
     }
 
     /**
@@ -46,9 +54,39 @@ public class UniqueApplicationList implements Iterable<Application> {
         if (contains(toAdd)) {
             throw new DuplicateApplicationException();
         }
+        identityIndex.put(new ApplicationIdentity(toAdd), toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, in order, as a single change of the list.
+     * None of the applications may already exist in the list, or be the same as another one of them.
+     *
+     * @throws DuplicateApplicationException listing every duplicate pair if some applications are not unique.
+     */
+    public void addAll(List<Application> toAdd) {
+        requireAllNonNull(toAdd);
+
+        Map<ApplicationIdentity, Application> addedIndex = new HashMap<>();
+        List<Map.Entry<Application, Application>> duplicatePairs = new ArrayList<>();
+        for (Application application : toAdd) {
+            ApplicationIdentity identity = new ApplicationIdentity(application);
+            Application existing = identityIndex.get(identity);
+            if (existing == null) {
+                existing = addedIndex.putIfAbsent(identity, application);
+            }
+            if (existing != null) {
+                duplicatePairs.add(new AbstractMap.SimpleImmutableEntry<>(existing, application));
+            }
+        }
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateApplicationException(duplicatePairs);
+        }
+
+        identityIndex.putAll(addedIndex);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the application {@code target} in the list with {@code editedApplication}.
      * {@code target} must exist in the list.
@@ -66,6 +104,8 @@ public class UniqueApplicationList implements Iterable<Application> {
             throw new DuplicateApplicationException();
         }
 
+        identityIndex.remove(new ApplicationIdentity(target));
+        identityIndex.put(new ApplicationIdentity(editedApplication), editedApplication);
         internalList.set(index, editedApplication);
     }
 
@@ -75,26 +115,43 @@ public class UniqueApplicationList implements Iterable<Application> {
      */
     public void remove(Application toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        ApplicationIdentity identity = new ApplicationIdentity(toRemove);
+        if (!toRemove.equals(identityIndex.get(identity)) || !internalList.remove(toRemove)) {
             throw new ApplicationNotFoundException();
         }
+        identityIndex.remove(identity);
     }
 
     public void setApplications(UniqueApplicationList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code applications}.
      * {@code applications} must not contain duplicate applications.
+     *
+     * @throws DuplicateApplicationException listing every duplicate pair if {@code applications} is not unique.
      */
     public void setApplications(List<Application> applications) {
         requireAllNonNull(applications);
-        if (!applicationsAreUnique(applications)) {
-            throw new DuplicateApplicationException();
+
+        Map<ApplicationIdentity, Application> replacementIndex = new HashMap<>();
+        List<Map.Entry<Application, Application>> duplicatePairs = new ArrayList<>();
+        for (Application application : applications) {
+            Application existing = replacementIndex.putIfAbsent(new ApplicationIdentity(application), application);
+            if (existing != null) {
+                duplicatePairs.add(new AbstractMap.SimpleImmutableEntry<>(existing, application));
+            }
+        }
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateApplicationException(duplicatePairs);
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
         internalList.setAll(applications);
     }
 
@@ -121,18 +178,4 @@ public class UniqueApplicationList implements Iterable<Application> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code applications} contains only unique applications.
-     */
-    private boolean applicationsAreUnique(List<Application> applications) {
-        for (int i = 0; i < applications.size() - 1; i++) {
-            for (int j = i + 1; j < applications.size(); j++) {
-                if (applications.get(i).isSameApplication(applications.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,128 @@
+package seedu.application.model.application;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A sorted index from a value derived from each application to the applications with that value.
+ * Looking up a single value or a range of values visits only the applications that match.
+ *
+ * The index does not observe the applications it holds; its owner must add and remove applications as they change.
+ *
+ * @param <K> type of the indexed values, whose natural order is the order of the index.
+ */
+public class ValueIndex<K extends Comparable<? super K>> {
+
+    private final Function<Application, K> field;
+    private final NavigableMap<K, Set<Application>> postings = new TreeMap<>();
+
+    /**
+     * Creates an empty {@code ValueIndex} over the value that {@code field} derives from each application.
+     */
+    public ValueIndex(Function<Application, K> field) {
+        requireNonNull(field);
+        this.field = field;
+    }
+
+    /**
+     * Adds {@code application} under its value.
+     */
+    public void add(Application application) {
+        requireNonNull(application);
+        postings.computeIfAbsent(field.apply(application), unused -> new HashSet<>()).add(application);
+    }
+
+    /**
+     * Adds every one of {@code applications}.
+     */
+    public void addAll(Iterable<Application> applications) {
+        for (Application application : applications) {
+            add(application);
+        }
+    }
+
+    /**
+     * Removes {@code application} from under its value.
+     */
+    public void remove(Application application) {
+        requireNonNull(application);
+        K value = field.apply(application);
+        Set<Application> applications = postings.get(value);
+        if (applications != null && applications.remove(application) && applications.isEmpty()) {
+            postings.remove(value);
+        }
+    }
+
+    /**
+     * Removes all applications from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the applications whose value is equal to {@code value}.
+     * The returned set is a copy, so it does not change when applications are later added to or removed from
+     * the index.
+     */
+    public Set<Application> find(K value) {
+        requireNonNull(value);
+        return new HashSet<>(postings.getOrDefault(value, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the applications whose value lies between {@code from} and {@code to}.
+     * A null bound leaves that end of the range open.
+     */
+    public Set<Application> findRange(K from, boolean isFromInclusive, K to, boolean isToInclusive) {
+        Set<Application> matches = new HashSet<>();
+        for (Set<Application> applications : getRange(from, isFromInclusive, to, isToInclusive).values()) {
+            matches.addAll(applications);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of applications whose value is equal to {@code value}.
+     */
+    public int count(K value) {
+        requireNonNull(value);
+        return postings.getOrDefault(value, Collections.emptySet()).size();
+    }
+
+    /**
+     * Returns the number of applications whose value lies between {@code from} and {@code to}.
+     * A null bound leaves that end of the range open. The cost grows with the number of distinct values in the
+     * range, not with the number of applications.
+     */
+    public int countRange(K from, boolean isFromInclusive, K to, boolean isToInclusive) {
+        int count = 0;
+        for (Set<Application> applications : getRange(from, isFromInclusive, to, isToInclusive).values()) {
+            count += applications.size();
+        }
+        return count;
+    }
+
+    private NavigableMap<K, Set<Application>> getRange(K from, boolean isFromInclusive, K to, boolean isToInclusive) {
+        if (from != null && to != null) {
+            int order = from.compareTo(to);
+            if (order > 0 || (order == 0 && !(isFromInclusive && isToInclusive))) {
+                return Collections.emptyNavigableMap();
+            }
+            return postings.subMap(from, isFromInclusive, to, isToInclusive);
+        } else if (from != null) {
+            return postings.tailMap(from, isFromInclusive);
+        } else if (to != null) {
+            return postings.headMap(to, isToInclusive);
+        } else {
+            return postings;
+        }
+    }
+
+}
@@ -1,11 +1,48 @@
 package seedu.application.model.application.exceptions;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.application.model.application.Application;
+
 /**
  * Signals that the operation will result in duplicate Applications (Applications are considered duplicates
  * if they have the same identity).
  */
 public class DuplicateApplicationException extends RuntimeException {
+
+    public static final String MESSAGE_DUPLICATE_APPLICATIONS = "Operation would result in duplicate applications";
+
+    private final List<Map.Entry<Application, Application>> duplicatePairs;
+
     public DuplicateApplicationException() {
-        super("Operation would result in duplicate applications");
+        super(MESSAGE_DUPLICATE_APPLICATIONS);
+        duplicatePairs = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception reporting every pair in {@code duplicatePairs}, where the key of each pair is the
+     * application that was seen first and the value is the later application with the same identity.
+     */
+    public DuplicateApplicationException(List<Map.Entry<Application, Application>> duplicatePairs) {
+        super(MESSAGE_DUPLICATE_APPLICATIONS + ":\n" + describe(requireNonNull(duplicatePairs)));
+        this.duplicatePairs = Collections.unmodifiableList(duplicatePairs);
+    }
+
+    /**
+     * Returns the duplicate pairs found, or an empty list if they were not collected.
+     */
+    public List<Map.Entry<Application, Application>> getDuplicatePairs() {
+        return duplicatePairs;
+    }
+
+    private static String describe(List<Map.Entry<Application, Application>> duplicatePairs) {
+        return duplicatePairs.stream()
+                .map(pair -> pair.getValue() + " (same as " + pair.getKey() + ")")
+                .collect(Collectors.joining("\n"));
     }
 }
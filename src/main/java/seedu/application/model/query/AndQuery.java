@@ -0,0 +1,123 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.application.model.application.Application;
+
+/**
+ * Matches the applications that all of several queries match.
+ * The query with the smallest estimate is looked up in its index, and its candidates are then tested against the
+ * other queries, so no more applications are visited than the most selective condition allows.
+ * If none of the queries can be answered from indexes, every application is tested.
+ */
+public class AndQuery extends Query {
+
+    public static final String OPERATOR = "AND";
+
+    public static final String MESSAGE_INTERSECTION_STEP = "%1$s: %2$d matches, starting from %3$s (estimated %4$d)";
+    public static final String MESSAGE_CHECK_STEP = "%1$s: checked on %2$d candidates, %3$d remain";
+    public static final String MESSAGE_ESTIMATED_CHECK_STEP = "%1$s (estimated %2$d): checked on %3$d candidates, "
+            + "%4$d remain";
+
+    private final List<Query> queries;
+
+    /**
+     * Creates an {@code AndQuery} of {@code queries}.
+     */
+    public AndQuery(List<Query> queries) {
+        requireNonNull(queries);
+        this.queries = new ArrayList<>(queries);
+    }
+
+    @Override
+    public boolean test(Application application) {
+        for (Query query : queries) {
+            if (!query.test(application)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    void addHighlights(Application application, Highlights highlights) {
+        for (Query query : queries) {
+            query.addHighlights(application, highlights);
+        }
+    }
+
+    @Override
+    int estimate(ApplicationIndex index) {
+        int estimate = NOT_INDEXED;
+        for (Query query : queries) {
+            int queryEstimate = query.estimate(index);
+            if (queryEstimate != NOT_INDEXED && (estimate == NOT_INDEXED || queryEstimate < estimate)) {
+                estimate = queryEstimate;
+            }
+        }
+        return estimate;
+    }
+
+    @Override
+    Set<Application> lookUp(ApplicationIndex index, QueryPlan plan, int depth) {
+        int[] estimates = new int[queries.size()];
+        int driver = -1;
+        for (int i = 0; i < queries.size(); i++) {
+            estimates[i] = queries.get(i).estimate(index);
+            if (estimates[i] != NOT_INDEXED && (driver == -1 || estimates[i] < estimates[driver])) {
+                driver = i;
+            }
+        }
+        if (driver == -1) {
+            return super.lookUp(index, plan, depth);
+        }
+
+        int step = plan.addStep(depth, "");
+        Set<Application> candidates = queries.get(driver).lookUp(index, plan, depth + 1);
+        for (int i = 0; i < queries.size(); i++) {
+            if (i == driver) {
+                continue;
+            }
+            Query query = queries.get(i);
+            Set<Application> remaining = new HashSet<>();
+            for (Application candidate : candidates) {
+                if (query.test(candidate)) {
+                    remaining.add(candidate);
+                }
+            }
+            plan.addStep(depth + 1, estimates[i] == NOT_INDEXED
+                    ? String.format(MESSAGE_CHECK_STEP, query, candidates.size(), remaining.size())
+                    : String.format(MESSAGE_ESTIMATED_CHECK_STEP, query, estimates[i], candidates.size(),
+                            remaining.size()));
+            candidates = remaining;
+        }
+        plan.setStep(step, depth, String.format(MESSAGE_INTERSECTION_STEP, this, candidates.size(),
+                queries.get(driver), estimates[driver]));
+        return candidates;
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Query::toString)
+                .collect(Collectors.joining(" " + OPERATOR + " ", "(", ")"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                && queries.equals(((AndQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+}
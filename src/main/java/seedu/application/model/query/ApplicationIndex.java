@@ -0,0 +1,57 @@
+package seedu.application.model.query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import seedu.application.commons.util.Keyword;
+import seedu.application.model.application.Application;
+
+/**
+ * Indexes over a collection of applications that queries can look their matches up in.
+ * Each {@code countBy} method returns an upper bound of the size of the result of the matching {@code findBy}
+ * method without listing the applications, so that a query can compare conditions before evaluating any.
+ */
+public interface ApplicationIndex {
+
+    /**
+     * Returns all the indexed applications.
+     */
+    List<Application> getApplicationList();
+
+    /**
+     * Returns the change version of the indexed applications, which changes whenever the applications change.
+     * Versions are never reused, so two indexes with the same version hold the same applications.
+     */
+    long getVersion();
+
+    /**
+     * Returns the applications whose company contains a word matched by {@code keyword}.
+     */
+    Set<Application> findByCompany(Keyword keyword);
+
+    int countByCompany(Keyword keyword);
+
+    /**
+     * Returns the applications whose position contains a word matched by {@code keyword}.
+     */
+    Set<Application> findByPosition(Keyword keyword);
+
+    int countByPosition(Keyword keyword);
+
+    /**
+     * Returns the applications whose email is at {@code domain}, ignoring case.
+     */
+    Set<Application> findByEmailDomain(String domain);
+
+    int countByEmailDomain(String domain);
+
+    /**
+     * Returns the applications made from {@code from} to {@code to}, both inclusive.
+     * A null bound leaves that end of the range open.
+     */
+    Set<Application> findByDate(LocalDate from, LocalDate to);
+
+    int countByDate(LocalDate from, LocalDate to);
+
+}
@@ -0,0 +1,80 @@
+package seedu.application.model.query;
+
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.application.model.application.Application;
+
+/**
+ * Matches the applications made from one date to another, both inclusive.
+ * Either end of the range may be left open.
+ */
+public class DateQuery extends Query {
+
+    public static final String PREFIX = "d/";
+    public static final String RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_NO_BOUNDS = "A date range must have at least one bound";
+    public static final String MESSAGE_INDEX_STEP = "%1$s: %2$d candidates from the date index";
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a {@code DateQuery} for the dates from {@code from} to {@code to}, where a null bound leaves that end
+     * of the range open. At least one bound must be given.
+     */
+    public DateQuery(LocalDate from, LocalDate to) {
+        checkArgument(from != null || to != null, MESSAGE_NO_BOUNDS);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Application application) {
+        LocalDate date = application.getDate().value;
+        return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+    }
+
+    @Override
+    int estimate(ApplicationIndex index) {
+        return index.countByDate(from, to);
+    }
+
+    @Override
+    Set<Application> lookUp(ApplicationIndex index, QueryPlan plan, int depth) {
+        Set<Application> matches = index.findByDate(from, to);
+        plan.addStep(depth, String.format(MESSAGE_INDEX_STEP, this, matches.size()));
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        if (from != null && from.equals(to)) {
+            return PREFIX + from;
+        } else if (to == null) {
+            return PREFIX + ">=" + from;
+        } else if (from == null) {
+            return PREFIX + "<=" + to;
+        } else {
+            return PREFIX + from + RANGE_SEPARATOR + to;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DateQuery // instanceof handles nulls
+                && Objects.equals(from, ((DateQuery) other).from)
+                && Objects.equals(to, ((DateQuery) other).to)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+}
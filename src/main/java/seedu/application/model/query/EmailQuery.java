@@ -0,0 +1,103 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.application.model.application.Application;
+
+/**
+ * Matches the applications whose email is a given address, or is at a given domain, ignoring case.
+ * Both are looked up in the email domain index; an address is then checked against the candidates at its domain.
+ */
+public class EmailQuery extends Query {
+
+    public static final String PREFIX = "e/";
+    public static final String ANY_LOCAL_PART = "*";
+
+    public static final String MESSAGE_INDEX_STEP = "%1$s: %2$d candidates from the email domain index";
+    public static final String MESSAGE_ADDRESS_STEP = "%1$s: %2$d candidates from the email domain index, "
+            + "%3$d with the address";
+
+    private final String address;
+    private final String domain;
+
+    private EmailQuery(String address, String domain) {
+        this.address = address;
+        this.domain = domain;
+    }
+
+    /**
+     * Returns an {@code EmailQuery} that matches the email {@code address}.
+     */
+    public static EmailQuery ofAddress(String address) {
+        requireNonNull(address);
+        return new EmailQuery(address, address.substring(address.lastIndexOf('@') + 1));
+    }
+
+    /**
+     * Returns an {@code EmailQuery} that matches every email at {@code domain}.
+     */
+    public static EmailQuery ofDomain(String domain) {
+        requireNonNull(domain);
+        return new EmailQuery(null, domain);
+    }
+
+    @Override
+    public boolean test(Application application) {
+        return address == null
+                ? application.getEmail().getDomain().equalsIgnoreCase(domain)
+                : application.getEmail().value.equalsIgnoreCase(address);
+    }
+
+    @Override
+    void addHighlights(Application application, Highlights highlights) {
+        if (!test(application)) {
+            return;
+        }
+        String email = application.getEmail().value;
+        highlights.add(Highlights.Field.EMAIL, address == null ? email.lastIndexOf('@') + 1 : 0, email.length());
+    }
+
+    @Override
+    int estimate(ApplicationIndex index) {
+        return index.countByEmailDomain(domain);
+    }
+
+    @Override
+    Set<Application> lookUp(ApplicationIndex index, QueryPlan plan, int depth) {
+        Set<Application> candidates = index.findByEmailDomain(domain);
+        if (address == null) {
+            plan.addStep(depth, String.format(MESSAGE_INDEX_STEP, this, candidates.size()));
+            return candidates;
+        }
+
+        Set<Application> matches = new HashSet<>();
+        for (Application application : candidates) {
+            if (test(application)) {
+                matches.add(application);
+            }
+        }
+        plan.addStep(depth, String.format(MESSAGE_ADDRESS_STEP, this, candidates.size(), matches.size()));
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + (address == null ? ANY_LOCAL_PART + "@" + domain : address);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EmailQuery // instanceof handles nulls
+                && toString().equalsIgnoreCase(other.toString())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().toLowerCase().hashCode();
+    }
+
+}
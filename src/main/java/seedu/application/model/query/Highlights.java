@@ -0,0 +1,122 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of the fields of an application that a query matched, as spans of character offsets into the text of
+ * each field. The spans of a field are kept sorted, and overlapping or adjacent spans are merged.
+ */
+public class Highlights {
+
+    /**
+     * A field of an application that can be highlighted.
+     */
+    public enum Field {
+        COMPANY,
+        POSITION,
+        EMAIL
+    }
+
+    /**
+     * The characters of a field from {@code start}, inclusive, to {@code end}, exclusive.
+     */
+    public static class Span {
+        private final int start;
+        private final int end;
+
+        /**
+         * Creates a {@code Span} from {@code start} to {@code end}, which must not be before {@code start}.
+         */
+        public Span(int start, int end) {
+            checkArgument(0 <= start && start <= end);
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + start + ", " + end + ")";
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Span // instanceof handles nulls
+                    && start == ((Span) other).start
+                    && end == ((Span) other).end); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * start + end;
+        }
+    }
+
+    /** Highlights with no spans, shown when the applications are not filtered by a query. */
+    public static final Highlights NONE = new Highlights();
+
+    private final Map<Field, List<Span>> spans = new EnumMap<>(Field.class);
+
+    /**
+     * Adds the span from {@code start} to {@code end} of {@code field}, merging it with the spans it touches.
+     */
+    void add(Field field, int start, int end) {
+        requireNonNull(field);
+        Span span = new Span(start, end);
+        if (start == end) {
+            return;
+        }
+
+        List<Span> fieldSpans = spans.computeIfAbsent(field, unused -> new ArrayList<>());
+        int index = 0;
+        while (index < fieldSpans.size() && fieldSpans.get(index).end < span.start) {
+            index++;
+        }
+        while (index < fieldSpans.size() && fieldSpans.get(index).start <= span.end) {
+            Span touched = fieldSpans.remove(index);
+            span = new Span(Math.min(span.start, touched.start), Math.max(span.end, touched.end));
+        }
+        fieldSpans.add(index, span);
+    }
+
+    /**
+     * Returns the spans of {@code field} in order.
+     */
+    public List<Span> getSpans(Field field) {
+        requireNonNull(field);
+        return Collections.unmodifiableList(spans.getOrDefault(field, Collections.emptyList()));
+    }
+
+    @Override
+    public String toString() {
+        return spans.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Highlights // instanceof handles nulls
+                && spans.equals(((Highlights) other).spans)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return spans.hashCode();
+    }
+
+}
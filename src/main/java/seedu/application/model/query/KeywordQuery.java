@@ -0,0 +1,100 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.application.commons.util.Keyword;
+import seedu.application.commons.util.StringUtil;
+import seedu.application.model.application.Application;
+
+/**
+ * Matches the applications whose company or position contains a word matched by a keyword.
+ */
+public class KeywordQuery extends Query {
+
+    public static final String MESSAGE_INDEX_STEP = "%1$s: %2$d candidates from the %3$s index";
+
+    /**
+     * The field of an application that a {@code KeywordQuery} searches.
+     */
+    public enum Field {
+        COMPANY("c/", "company", Highlights.Field.COMPANY),
+        POSITION("p/", "position", Highlights.Field.POSITION);
+
+        private final String prefix;
+        private final String name;
+        private final Highlights.Field highlightedField;
+
+        Field(String prefix, String name, Highlights.Field highlightedField) {
+            this.prefix = prefix;
+            this.name = name;
+            this.highlightedField = highlightedField;
+        }
+    }
+
+    private final Field field;
+    private final Keyword keyword;
+
+    /**
+     * Creates a {@code KeywordQuery} for {@code keyword} in {@code field}.
+     */
+    public KeywordQuery(Field field, Keyword keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        this.field = field;
+        this.keyword = keyword;
+    }
+
+    @Override
+    public boolean test(Application application) {
+        return keyword.isWordIn(getText(application));
+    }
+
+    private String getText(Application application) {
+        return field == Field.COMPANY ? application.getCompany().company : application.getPosition().value;
+    }
+
+    @Override
+    void addHighlights(Application application, Highlights highlights) {
+        String text = getText(application);
+        int wordStart = keyword.indexOfWordIn(text, 0);
+        while (wordStart >= 0) {
+            highlights.add(field.highlightedField, wordStart, keyword.getMatchEnd(text, wordStart));
+            wordStart = keyword.indexOfWordIn(text, StringUtil.getWordEnd(text, wordStart));
+        }
+    }
+
+    @Override
+    int estimate(ApplicationIndex index) {
+        return field == Field.COMPANY ? index.countByCompany(keyword) : index.countByPosition(keyword);
+    }
+
+    @Override
+    Set<Application> lookUp(ApplicationIndex index, QueryPlan plan, int depth) {
+        Set<Application> matches = field == Field.COMPANY ? index.findByCompany(keyword)
+                : index.findByPosition(keyword);
+        plan.addStep(depth, String.format(MESSAGE_INDEX_STEP, this, matches.size(), field.name));
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        return field.prefix + keyword;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof KeywordQuery // instanceof handles nulls
+                && field == ((KeywordQuery) other).field
+                && keyword.equals(((KeywordQuery) other).keyword)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keyword);
+    }
+
+}
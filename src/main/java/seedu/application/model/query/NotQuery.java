@@ -0,0 +1,48 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.application.model.application.Application;
+
+/**
+ * Matches the applications that another query does not match.
+ * Its matches are usually most of the applications, so it is never looked up in an index; it is tested on the
+ * candidates of the query it is combined with, or on every application if it stands alone.
+ */
+public class NotQuery extends Query {
+
+    public static final String OPERATOR = "NOT";
+
+    private final Query query;
+
+    /**
+     * Creates a {@code NotQuery} that negates {@code query}.
+     */
+    public NotQuery(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Application application) {
+        return !query.test(application);
+    }
+
+    @Override
+    public String toString() {
+        return OPERATOR + " " + query;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && query.equals(((NotQuery) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+}
@@ -0,0 +1,102 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.application.model.application.Application;
+
+/**
+ * Matches the applications that any of several queries match.
+ * If every one of the queries can be answered from indexes, the matches are the union of theirs; otherwise every
+ * application has to be tested anyway, so it is.
+ */
+public class OrQuery extends Query {
+
+    public static final String OPERATOR = "OR";
+
+    public static final String MESSAGE_UNION_STEP = "%1$s: %2$d matches in the union of";
+
+    private final List<Query> queries;
+
+    /**
+     * Creates an {@code OrQuery} of {@code queries}.
+     */
+    public OrQuery(List<Query> queries) {
+        requireNonNull(queries);
+        this.queries = new ArrayList<>(queries);
+    }
+
+    @Override
+    public boolean test(Application application) {
+        for (Query query : queries) {
+            if (query.test(application)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    void addHighlights(Application application, Highlights highlights) {
+        // only the queries that match highlight, so a word is never highlighted by an alternative that failed
+        for (Query query : queries) {
+            if (query.test(application)) {
+                query.addHighlights(application, highlights);
+            }
+        }
+    }
+
+    @Override
+    int estimate(ApplicationIndex index) {
+        int estimate = 0;
+        for (Query query : queries) {
+            int queryEstimate = query.estimate(index);
+            if (queryEstimate == NOT_INDEXED) {
+                return NOT_INDEXED;
+            }
+            estimate += queryEstimate;
+        }
+        return estimate;
+    }
+
+    @Override
+    Set<Application> lookUp(ApplicationIndex index, QueryPlan plan, int depth) {
+        for (Query query : queries) {
+            if (query.estimate(index) == NOT_INDEXED) {
+                return super.lookUp(index, plan, depth);
+            }
+        }
+
+        int step = plan.addStep(depth, "");
+        Set<Application> matches = new HashSet<>();
+        for (Query query : queries) {
+            matches.addAll(query.lookUp(index, plan, depth + 1));
+        }
+        plan.setStep(step, depth, String.format(MESSAGE_UNION_STEP, this, matches.size()));
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream().map(Query::toString)
+                .collect(Collectors.joining(" " + OPERATOR + " ", "(", ")"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                && queries.equals(((OrQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+}
@@ -0,0 +1,79 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.application.model.application.Application;
+
+/**
+ * A condition on applications that can be evaluated through the indexes of an {@code ApplicationIndex}.
+ * Each query estimates how many applications its indexes could return, and a query that combines several
+ * conditions uses those estimates to start from the most selective one, so that only its candidates are tested
+ * against the others. A query that no index can answer is evaluated by testing every application.
+ *
+ * The string form of a query is normalised, so two queries that print the same are equal.
+ */
+public abstract class Query implements Predicate<Application> {
+
+    /** Estimate of a query that no index can answer. */
+    public static final int NOT_INDEXED = -1;
+
+    public static final String MESSAGE_SCAN_STEP = "%1$s: %2$d matches by testing all %3$d applications";
+
+    /**
+     * Finds the applications in {@code index} that this query matches, and records how they were found.
+     */
+    public final QueryResult execute(ApplicationIndex index) {
+        requireNonNull(index);
+        QueryPlan plan = new QueryPlan();
+        Set<Application> matches = lookUp(index, plan, 0);
+        return new QueryResult(matches, plan);
+    }
+
+    /**
+     * Returns the parts of the fields of {@code application} that this query matched.
+     * The application is assumed to be one that this query matches.
+     */
+    public final Highlights highlight(Application application) {
+        requireNonNull(application);
+        Highlights highlights = new Highlights();
+        addHighlights(application, highlights);
+        return highlights;
+    }
+
+    /**
+     * Adds the parts of the fields of {@code application} that this query matched to {@code highlights}.
+     * By default, a query highlights nothing.
+     */
+    void addHighlights(Application application, Highlights highlights) {
+    }
+
+    /**
+     * Returns an upper bound of the number of applications matched by this query that its indexes can tell
+     * without listing them, or {@link #NOT_INDEXED} if the query cannot be answered from indexes.
+     */
+    int estimate(ApplicationIndex index) {
+        return NOT_INDEXED;
+    }
+
+    /**
+     * Returns exactly the applications in {@code index} that this query matches, recording the steps taken in
+     * {@code plan} at {@code depth}.
+     * Queries that can be answered from indexes override this; by default every application is tested.
+     */
+    Set<Application> lookUp(ApplicationIndex index, QueryPlan plan, int depth) {
+        Set<Application> matches = new HashSet<>();
+        for (Application application : index.getApplicationList()) {
+            if (test(application)) {
+                matches.add(application);
+            }
+        }
+        plan.addStep(depth, String.format(MESSAGE_SCAN_STEP, this, matches.size(),
+                index.getApplicationList().size()));
+        return matches;
+    }
+
+}
@@ -0,0 +1,130 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used cache of the results of queries.
+ * Results are keyed on their query, which is equal to any other query for the same words, ignoring case, and on
+ * the version of the index they were found in. Any change to the indexed applications gives the index a new
+ * version, and the first lookup after that drops every cached result, so a result is never served for applications
+ * that have changed since it was found.
+ *
+ * The cache holds at most a given number of results, and at most a given number of matches across all of them,
+ * evicting the least recently used results first. A result with more matches than the cache can hold is not cached.
+ */
+public class QueryCache {
+
+    public static final int DEFAULT_MAX_RESULTS = 64;
+    public static final int DEFAULT_MAX_MATCHES = 100_000;
+
+    public static final String MESSAGE_CACHED_STEP = "%1$s: %2$d matches from the query cache";
+    public static final String MESSAGE_INVALID_LIMITS = "A query cache should hold at least one result and match";
+
+    private final int maxResults;
+    private final int maxMatches;
+    private final LinkedHashMap<Query, QueryResult> results = new LinkedHashMap<>(16, 0.75f, true);
+    private long version;
+    private int matchCount;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a {@code QueryCache} with the default limits.
+     */
+    public QueryCache() {
+        this(DEFAULT_MAX_RESULTS, DEFAULT_MAX_MATCHES);
+    }
+
+    /**
+     * Creates a {@code QueryCache} that holds at most {@code maxResults} results with at most {@code maxMatches}
+     * matches between them.
+     */
+    public QueryCache(int maxResults, int maxMatches) {
+        checkArgument(maxResults > 0 && maxMatches > 0, MESSAGE_INVALID_LIMITS);
+        this.maxResults = maxResults;
+        this.maxMatches = maxMatches;
+    }
+
+    /**
+     * Returns the result of {@code query} on {@code index}, from the cache if the query has been executed on the
+     * same version of the index, and by executing it otherwise.
+     */
+    public QueryResult execute(Query query, ApplicationIndex index) {
+        requireNonNull(query);
+        requireNonNull(index);
+        if (index.getVersion() != version) {
+            clear();
+            version = index.getVersion();
+        }
+
+        QueryResult cachedResult = results.get(query);
+        if (cachedResult != null) {
+            hitCount++;
+            QueryPlan plan = new QueryPlan();
+            plan.addStep(0, String.format(MESSAGE_CACHED_STEP, query, cachedResult.getMatches().size()));
+            return new QueryResult(cachedResult.getMatches(), plan);
+        }
+
+        missCount++;
+        QueryResult result = query.execute(index);
+        put(query, result);
+        return result;
+    }
+
+    private void put(Query query, QueryResult result) {
+        int resultMatchCount = result.getMatches().size();
+        if (resultMatchCount > maxMatches) {
+            return;
+        }
+        results.put(query, result);
+        matchCount += resultMatchCount;
+
+        Iterator<Map.Entry<Query, QueryResult>> leastRecentlyUsed = results.entrySet().iterator();
+        while (results.size() > maxResults || matchCount > maxMatches) {
+            matchCount -= leastRecentlyUsed.next().getValue().getMatches().size();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Removes every cached result. The hit and miss counts are kept.
+     */
+    public void clear() {
+        results.clear();
+        matchCount = 0;
+    }
+
+    /**
+     * Returns the number of cached results.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of matches across all cached results.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public String toString() {
+        return hitCount + " hits, " + missCount + " misses, " + results.size() + " results holding " + matchCount
+                + " matches";
+    }
+
+}
@@ -0,0 +1,42 @@
+package seedu.application.model.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The steps taken to find the matches of a {@code Query}, in the order they were taken.
+ * Each step is indented by the depth of the part of the query it evaluated.
+ */
+public class QueryPlan {
+
+    private static final String INDENT = "  ";
+
+    private final List<String> steps = new ArrayList<>();
+
+    /**
+     * Adds a step at {@code depth} and returns its position, so that its description can be completed with
+     * {@link #setStep(int, int, String)} once the steps it depends on have been taken.
+     */
+    int addStep(int depth, String description) {
+        steps.add(INDENT.repeat(depth) + description);
+        return steps.size() - 1;
+    }
+
+    /**
+     * Replaces the description of the step at {@code position}.
+     */
+    void setStep(int position, int depth, String description) {
+        steps.set(position, INDENT.repeat(depth) + description);
+    }
+
+    public List<String> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    @Override
+    public String toString() {
+        return String.join("\n", steps);
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.application.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.application.model.application.Application;
+
+/**
+ * The applications matched by a {@code Query}, together with the plan that found them.
+ */
+public class QueryResult {
+
+    private final Set<Application> matches;
+    private final QueryPlan plan;
+
+    /**
+     * Creates a {@code QueryResult} of {@code matches} found by {@code plan}.
+     */
+    public QueryResult(Set<Application> matches, QueryPlan plan) {
+        requireNonNull(matches);
+        requireNonNull(plan);
+        this.matches = Collections.unmodifiableSet(matches);
+        this.plan = plan;
+    }
+
+    public Set<Application> getMatches() {
+        return matches;
+    }
+
+    public QueryPlan getPlan() {
+        return plan;
+    }
+
+}
@@ -0,0 +1,314 @@
+package seedu.application.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.application.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.Company;
+import seedu.application.model.application.Contact;
+import seedu.application.model.application.Date;
+import seedu.application.model.application.Email;
+import seedu.application.model.application.Position;
+
+/**
+ * Generates any number of distinct applications that resemble real ones, to populate application books for
+ * benchmarks and load tests. The same settings and seed always generate the same applications.
+ *
+ * Companies are made-up words followed by a common suffix, and there is a company for every
+ * {@code applicationsPerCompany} applications. Companies, positions, email domains and dates are each drawn from a
+ * Zipf distribution, in which the k-th most common choice is drawn with a weight of 1 / k^skew: a skew of 0 draws
+ * every choice equally often, and larger skews make the most common choices more common. The most common dates are
+ * the latest ones. No two applications have the same company and position.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final double DEFAULT_APPLICATIONS_PER_COMPANY = 4;
+    public static final double DEFAULT_COMPANY_SKEW = 1;
+    public static final double DEFAULT_POSITION_SKEW = 0.5;
+    public static final double DEFAULT_EMAIL_DOMAIN_SKEW = 1;
+    public static final double DEFAULT_DATE_SKEW = 0;
+    public static final LocalDate DEFAULT_FIRST_DATE = LocalDate.of(2020, 1, 1);
+    public static final LocalDate DEFAULT_LAST_DATE = LocalDate.of(2023, 12, 31);
+
+    public static final String MESSAGE_INVALID_SKEW = "Skews should not be negative";
+    public static final String MESSAGE_INVALID_APPLICATIONS_PER_COMPANY =
+            "Applications per company should be between 1 and %1$d, the number of positions";
+    public static final String MESSAGE_INVALID_DATES = "The first date should not be after the last date";
+    public static final String MESSAGE_INVALID_COUNT = "Number of applications should be between 0 and %1$d";
+
+    private static final String[] SYLLABLES = {"ba", "ko", "ri", "ta", "mu", "sen", "vo", "li", "da", "ne", "zor",
+        "pi", "qua", "fe", "gra", "hu"};
+    private static final String[] COMPANY_SUFFIXES = {"Labs", "Technologies", "Systems", "Capital", "Group",
+        "Works", "Analytics", "Robotics"};
+    private static final String[] POSITION_LEVELS = {"Intern", "Junior", "Senior", "Graduate", "Staff", "Lead"};
+    private static final String[] POSITION_ROLES = {"Software Engineer", "Backend Engineer", "Frontend Engineer",
+        "Data Scientist", "Product Manager", "Quant Researcher", "DevOps Engineer", "Security Analyst"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "mail.com", "careers.io", "jobs.sg", "hr.net",
+        "talent.co", "recruit.org", "hire.com.sg"};
+    private static final int POSITION_COUNT = POSITION_LEVELS.length * POSITION_ROLES.length;
+
+    private final long seed;
+    private final double applicationsPerCompany;
+    private final double companySkew;
+    private final double positionSkew;
+    private final double emailDomainSkew;
+    private final double dateSkew;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+
+    /**
+     * Creates a {@code SyntheticDataGenerator} with the default settings and seed.
+     */
+    public SyntheticDataGenerator() {
+        this(DEFAULT_SEED, DEFAULT_APPLICATIONS_PER_COMPANY, DEFAULT_COMPANY_SKEW, DEFAULT_POSITION_SKEW,
+                DEFAULT_EMAIL_DOMAIN_SKEW, DEFAULT_DATE_SKEW, DEFAULT_FIRST_DATE, DEFAULT_LAST_DATE);
+    }
+
+    private SyntheticDataGenerator(long seed, double applicationsPerCompany, double companySkew,
+            double positionSkew, double emailDomainSkew, double dateSkew, LocalDate firstDate, LocalDate lastDate) {
+        checkArgument(applicationsPerCompany >= 1 && applicationsPerCompany <= POSITION_COUNT,
+                String.format(MESSAGE_INVALID_APPLICATIONS_PER_COMPANY, POSITION_COUNT));
+        checkArgument(companySkew >= 0 && positionSkew >= 0 && emailDomainSkew >= 0 && dateSkew >= 0,
+                MESSAGE_INVALID_SKEW);
+        requireNonNull(firstDate);
+        requireNonNull(lastDate);
+        checkArgument(!firstDate.isAfter(lastDate), MESSAGE_INVALID_DATES);
+        this.seed = seed;
+        this.applicationsPerCompany = applicationsPerCompany;
+        this.companySkew = companySkew;
+        this.positionSkew = positionSkew;
+        this.emailDomainSkew = emailDomainSkew;
+        this.dateSkew = dateSkew;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    /**
+     * Returns a copy of this generator that generates applications from {@code seed}.
+     */
+    public SyntheticDataGenerator withSeed(long seed) {
+        return new SyntheticDataGenerator(seed, applicationsPerCompany, companySkew, positionSkew, emailDomainSkew,
+                dateSkew, firstDate, lastDate);
+    }
+
+    /**
+     * Returns a copy of this generator with a company for every {@code applicationsPerCompany} applications.
+     */
+    public SyntheticDataGenerator withApplicationsPerCompany(double applicationsPerCompany) {
+        return new SyntheticDataGenerator(seed, applicationsPerCompany, companySkew, positionSkew, emailDomainSkew,
+                dateSkew, firstDate, lastDate);
+    }
+
+    /**
+     * Returns a copy of this generator that draws companies with {@code companySkew}.
+     */
+    public SyntheticDataGenerator withCompanySkew(double companySkew) {
+        return new SyntheticDataGenerator(seed, applicationsPerCompany, companySkew, positionSkew, emailDomainSkew,
+                dateSkew, firstDate, lastDate);
+    }
+
+    /**
+     * Returns a copy of this generator that draws positions with {@code positionSkew}.
+     */
+    public SyntheticDataGenerator withPositionSkew(double positionSkew) {
+        return new SyntheticDataGenerator(seed, applicationsPerCompany, companySkew, positionSkew, emailDomainSkew,
+                dateSkew, firstDate, lastDate);
+    }
+
+    /**
+     * Returns a copy of this generator that draws email domains with {@code emailDomainSkew}.
+     */
+    public SyntheticDataGenerator withEmailDomainSkew(double emailDomainSkew) {
+        return new SyntheticDataGenerator(seed, applicationsPerCompany, companySkew, positionSkew, emailDomainSkew,
+                dateSkew, firstDate, lastDate);
+    }
+
+    /**
+     * Returns a copy of this generator that draws dates from {@code firstDate} to {@code lastDate} with
+     * {@code dateSkew}.
+     */
+    public SyntheticDataGenerator withDates(LocalDate firstDate, LocalDate lastDate, double dateSkew) {
+        return new SyntheticDataGenerator(seed, applicationsPerCompany, companySkew, positionSkew, emailDomainSkew,
+                dateSkew, firstDate, lastDate);
+    }
+
+    /**
+     * Returns the number of companies that {@code count} applications are spread over.
+     */
+    public int getCompanyCount(int count) {
+        return count == 0 ? 0 : (int) Math.ceil(count / applicationsPerCompany);
+    }
+
+    /**
+     * Returns {@code count} distinct applications.
+     */
+    public List<Application> generate(int count) {
+        int maxCount = Integer.MAX_VALUE / POSITION_COUNT;
+        checkArgument(count >= 0 && count <= maxCount, String.format(MESSAGE_INVALID_COUNT, maxCount));
+        int companyCount = getCompanyCount(count);
+        Random random = new Random(seed);
+        ZipfDistribution companies = new ZipfDistribution(companyCount, companySkew);
+        ZipfDistribution positions = new ZipfDistribution(POSITION_COUNT, positionSkew);
+        ZipfDistribution emailDomains = new ZipfDistribution(EMAIL_DOMAINS.length, emailDomainSkew);
+        int dayCount = (int) (lastDate.toEpochDay() - firstDate.toEpochDay()) + 1;
+        ZipfDistribution dates = new ZipfDistribution(dayCount, dateSkew);
+
+        // Values shared by many applications are created once, which keeps books of millions of applications small.
+        Company[] companyValues = new Company[companyCount];
+        Position[] positionValues = new Position[POSITION_COUNT];
+        Date[] dateValues = new Date[dayCount];
+        Map<Integer, Email> emailValues = new HashMap<>();
+        OpenPairs openPairs = new OpenPairs(companyCount);
+
+        List<Application> applications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int company = openPairs.findOpenCompany(companies.sample(random));
+            int position = openPairs.claimPosition(company, positions.sample(random));
+            if (companyValues[company] == null) {
+                companyValues[company] = new Company(getCompanyName(company));
+            }
+            if (positionValues[position] == null) {
+                positionValues[position] = new Position(POSITION_LEVELS[position % POSITION_LEVELS.length] + " "
+                        + POSITION_ROLES[position / POSITION_LEVELS.length]);
+            }
+            int day = dates.sample(random);
+            if (dateValues[day] == null) {
+                dateValues[day] = new Date(lastDate.minusDays(day).toString());
+            }
+            Contact contact = new Contact(String.valueOf(80_000_000 + random.nextInt(20_000_000)));
+            int emailDomain = emailDomains.sample(random);
+            Email email = emailValues.computeIfAbsent(company * EMAIL_DOMAINS.length + emailDomain, unused ->
+                    new Email("hr." + getWord(company) + "@" + EMAIL_DOMAINS[emailDomain]));
+            applications.add(new Application(companyValues[company], contact, email, positionValues[position],
+                    dateValues[day]));
+        }
+        return applications;
+    }
+
+    /**
+     * Returns an application book of {@code count} distinct applications.
+     */
+    public ApplicationBook generateApplicationBook(int count) {
+        ApplicationBook applicationBook = new ApplicationBook();
+        applicationBook.setApplications(generate(count));
+        return applicationBook;
+    }
+
+    private static String getCompanyName(int company) {
+        String word = getWord(company);
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1) + " "
+                + COMPANY_SUFFIXES[company % COMPANY_SUFFIXES.length];
+    }
+
+    /**
+     * Returns the made-up word for {@code index}, written in bijective base-{@code SYLLABLES.length} with a syllable
+     * for each digit, so that every index has a different word.
+     */
+    private static String getWord(int index) {
+        StringBuilder word = new StringBuilder();
+        int remaining = index + 1;
+        while (remaining > 0) {
+            remaining--;
+            word.insert(0, SYLLABLES[remaining % SYLLABLES.length]);
+            remaining /= SYLLABLES.length;
+        }
+        return word.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "seed " + seed + ", " + applicationsPerCompany + " applications per company, skews: company "
+                + companySkew + ", position " + positionSkew + ", email domain " + emailDomainSkew + ", date "
+                + dateSkew + ", dates from " + firstDate + " to " + lastDate;
+    }
+
+    /**
+     * Draws the numbers from 0 to {@code size - 1}, drawing {@code k} with a weight of 1 / (k + 1)^skew.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeWeights;
+
+        private ZipfDistribution(int size, double skew) {
+            cumulativeWeights = new double[size];
+            double total = 0;
+            for (int k = 0; k < size; k++) {
+                total += Math.pow(k + 1, -skew);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        private int sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            return Math.min(index >= 0 ? index + 1 : -index - 1, cumulativeWeights.length - 1);
+        }
+    }
+
+    /**
+     * Tracks which pairs of company and position have been used, so that every application is unique.
+     * A drawn pair that has been used is moved to the next unused position of the company, and a company with no
+     * unused positions is moved to the next company that has one.
+     */
+    private static class OpenPairs {
+        private final BitSet usedPairs;
+        private final int[] usedPositionCounts;
+        /** Links each full company towards a company after it that may still have unused positions. */
+        private final int[] nextCompanies;
+
+        private OpenPairs(int companyCount) {
+            usedPairs = new BitSet(companyCount * POSITION_COUNT);
+            usedPositionCounts = new int[companyCount];
+            nextCompanies = new int[companyCount];
+            for (int company = 0; company < companyCount; company++) {
+                nextCompanies[company] = company;
+            }
+        }
+
+        /**
+         * Returns the first company from {@code company}, wrapping around, that has unused positions.
+         */
+        private int findOpenCompany(int company) {
+            int open = company;
+            while (nextCompanies[open] != open) {
+                open = nextCompanies[open];
+            }
+            // Points the companies on the way straight at the open company, so later searches skip them.
+            while (nextCompanies[company] != open) {
+                int next = nextCompanies[company];
+                nextCompanies[company] = open;
+                company = next;
+            }
+            return open;
+        }
+
+        /**
+         * Marks the first unused position of {@code company} from {@code position}, wrapping around, as used and
+         * returns it. {@code company} must have unused positions.
+         */
+        private int claimPosition(int company, int position) {
+            int pair = company * POSITION_COUNT + position;
+            while (usedPairs.get(pair)) {
+                position = (position + 1) % POSITION_COUNT;
+                pair = company * POSITION_COUNT + position;
+            }
+            usedPairs.set(pair);
+            usedPositionCounts[company]++;
+            if (usedPositionCounts[company] == POSITION_COUNT) {
+                nextCompanies[company] = (company + 1) % nextCompanies.length;
+            }
+            return position;
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package seedu.application.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.application.commons.util.FileUtil;
+import seedu.application.commons.util.JsonUtil;
+import seedu.application.model.application.Application;
+
+/**
+ * Writes applications to a CSV or newline-delimited JSON file, to be used outside of the application book.
+ * Applications are written one at a time as they are produced, through a buffer, so exporting takes the same
+ * memory however many applications there are.
+ *
+ * A CSV file has a header row with the company, contact, email, position and date columns, and can be imported
+ * again with {@link ApplicationImporter}. A newline-delimited JSON file has each application as a JSON object on
+ * a line of its own, in the same form as in the application book data file.
+ */
+public class ApplicationExporter {
+
+    private static final String CSV_HEADER = "company,contact,email,position,date";
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final String CSV_CHARACTERS_TO_QUOTE = ",\"\r\n";
+    private static final char LINE_SEPARATOR = '\n';
+
+    /**
+     * Formats of the files that applications can be exported to.
+     */
+    public enum Format {
+        CSV(".csv"), NDJSON(".ndjson");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the format of {@code filePath} as given by its extension, ignoring case, if it is supported.
+         */
+        public static Optional<Format> of(Path filePath) {
+            return FileUtil.findByExtension(filePath, values(), format -> format.extension);
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code filePath} with {@code applications} in the given {@code format}, creating
+     * the file and its missing parent directories if needed, and returns the number of applications written.
+     * The file is replaced atomically, so it is never left partially written.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static long write(Stream<Application> applications, Path filePath, Format format) throws IOException {
+        requireNonNull(applications);
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        FileUtil.createParentDirsOfFile(filePath.toAbsolutePath());
+        switch (format) {
+        case CSV:
+            return writeCsv(applications, filePath);
+        case NDJSON:
+            return JsonUtil.saveJsonLinesFile(filePath, applications.map(JsonAdaptedApplication::new));
+        default:
+            throw new AssertionError("Unknown export format " + format);
+        }
+    }
+
+    private static long writeCsv(Stream<Application> applications, Path filePath) throws IOException {
+        long[] applicationCount = {0};
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write(LINE_SEPARATOR);
+            Iterator<Application> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                writeCsvRecord(iterator.next(), writer);
+                applicationCount[0]++;
+            }
+            // the output stream is closed by FileUtil, after it is flushed to disk
+            writer.flush();
+        });
+        return applicationCount[0];
+    }
+
+    private static void writeCsvRecord(Application application, Writer writer) throws IOException {
+        writeCsvValue(application.getCompany().company, writer);
+        writer.write(CSV_SEPARATOR);
+        writeCsvValue(application.getContact().value, writer);
+        writer.write(CSV_SEPARATOR);
+        writeCsvValue(application.getEmail().value, writer);
+        writer.write(CSV_SEPARATOR);
+        writeCsvValue(application.getPosition().value, writer);
+        writer.write(CSV_SEPARATOR);
+        writeCsvValue(application.getDate().value.toString(), writer);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes {@code value} to {@code writer}, enclosed in quotes with any quotes in it doubled if it contains
+     * characters that would otherwise end the value.
+     */
+    private static void writeCsvValue(String value, Writer writer) throws IOException {
+        boolean isQuoted = false;
+        for (int i = 0; i < value.length() && !isQuoted; i++) {
+            isQuoted = CSV_CHARACTERS_TO_QUOTE.indexOf(value.charAt(i)) >= 0;
+        }
+        if (!isQuoted) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write(CSV_QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == CSV_QUOTE) {
+                writer.write(CSV_QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(CSV_QUOTE);
+    }
+
+}
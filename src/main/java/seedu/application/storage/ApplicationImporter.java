@@ -0,0 +1,344 @@
+package seedu.application.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.TreeNode;
+
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.commons.exceptions.IllegalValueException;
+import seedu.application.commons.util.FileUtil;
+import seedu.application.commons.util.JsonUtil;
+import seedu.application.model.application.Application;
+
+/**
+ * Reads applications to be imported into the application book from a CSV or JSON file.
+ * Every application in the file is validated, on all available cores when there are enough of them, and the
+ * valid ones are returned together with the reasons the others are invalid, so that the caller decides what
+ * to do with a partly invalid file.
+ *
+ * A CSV file starts with a header row that names the company, contact, email, position and date columns, in any
+ * order. A JSON file is either an array of applications or an application book with an {@code applications}
+ * array, as saved by {@link JsonApplicationBookStorage}.
+ */
+public class ApplicationImporter {
+
+    public static final String MESSAGE_INVALID_APPLICATION = "Line %1$d: %2$s";
+    public static final String MESSAGE_MISSING_HEADER = "The file has no header row";
+    public static final String MESSAGE_MISSING_COLUMN = "The header row has no %1$s column";
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected %1$d values but found %2$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Quoted value starting at line %1$d is not closed";
+
+    private static final String APPLICATIONS_FIELD = "applications";
+    private static final String[] CSV_COLUMNS = {"company", "contact", "email", "position", "date"};
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+    /** Written at the start of CSV files by some spreadsheet programs. */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * Formats of the files that applications can be imported from.
+     */
+    public enum Format {
+        CSV(".csv"), JSON(".json");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the format of {@code filePath} as given by its extension, ignoring case, if it is supported.
+         */
+        public static Optional<Format> of(Path filePath) {
+            return FileUtil.findByExtension(filePath, values(), format -> format.extension);
+        }
+    }
+
+    /**
+     * Applications read from a file, with the reasons why the invalid ones in it could not be read.
+     */
+    public static class Result {
+        private final List<Application> applications;
+        private final List<String> errors;
+
+        Result(List<Application> applications, List<String> errors) {
+            this.applications = Collections.unmodifiableList(applications);
+            this.errors = Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * Returns the valid applications in the file, in the order they appear in it.
+         */
+        public List<Application> getApplications() {
+            return applications;
+        }
+
+        /**
+         * Returns a message for every invalid application in the file, in the order they appear in it.
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+
+    /**
+     * An application read from a file but not yet validated, with the line of the file that it starts on.
+     * A row that could not even be read as an application has the reason instead of a source.
+     */
+    private static class Row<S> {
+        private final S source;
+        private final String error;
+        private final int lineNumber;
+
+        Row(S source, String error, int lineNumber) {
+            this.source = source;
+            this.error = error;
+            this.lineNumber = lineNumber;
+        }
+    }
+
+    /**
+     * Reads the applications in {@code filePath}, which is in the given {@code format}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if the file is not laid out in the given format.
+     */
+    public static Result read(Path filePath, Format format) throws IOException, DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        switch (format) {
+        case CSV:
+            return readCsv(filePath);
+        case JSON:
+            return readJson(filePath);
+        default:
+            throw new AssertionError("Unknown import format " + format);
+        }
+    }
+
+    private static Result readCsv(Path filePath) throws IOException, DataConversionException {
+        List<Row<JsonAdaptedApplication>> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            CsvReader csvReader = new CsvReader(reader);
+            List<String> header = csvReader.readRecord();
+            if (header == null) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_MISSING_HEADER));
+            }
+            int[] columnIndices = getColumnIndices(header);
+
+            int lineNumber = csvReader.getLineNumber();
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                boolean isBlankLine = record.size() == 1 && record.get(0).isEmpty();
+                if (record.size() == header.size()) {
+                    rows.add(new Row<>(toJsonAdaptedApplication(record, columnIndices), null, lineNumber));
+                } else if (!isBlankLine) {
+                    rows.add(new Row<>(null, String.format(MESSAGE_WRONG_COLUMN_COUNT, header.size(),
+                            record.size()), lineNumber));
+                }
+                lineNumber = csvReader.getLineNumber();
+            }
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        return convert(rows, JsonAdaptedApplication::toModelType);
+    }
+
+    /**
+     * Returns the index of every one of {@link #CSV_COLUMNS} in the {@code header} row.
+     */
+    private static int[] getColumnIndices(List<String> header) throws IllegalValueException {
+        int[] columnIndices = new int[CSV_COLUMNS.length];
+        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+            columnIndices[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (header.get(j).replace(BYTE_ORDER_MARK, "").trim().equalsIgnoreCase(CSV_COLUMNS[i])) {
+                    columnIndices[i] = j;
+                    break;
+                }
+            }
+            if (columnIndices[i] == -1) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, CSV_COLUMNS[i]));
+            }
+        }
+        return columnIndices;
+    }
+
+    private static JsonAdaptedApplication toJsonAdaptedApplication(List<String> record, int[] columnIndices) {
+        return new JsonAdaptedApplication(record.get(columnIndices[0]).trim(), record.get(columnIndices[1]).trim(),
+                record.get(columnIndices[2]).trim(), record.get(columnIndices[3]).trim(),
+                record.get(columnIndices[4]).trim());
+    }
+
+    private static Result readJson(Path filePath) throws IOException, DataConversionException {
+        Optional<Result> result = JsonUtil.readJsonFile(filePath, ApplicationImporter::readApplications);
+        if (!result.isPresent()) {
+            throw new NoSuchFileException(filePath.toString());
+        }
+        return result.get();
+    }
+
+    private static Result readApplications(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME
+                    && !parser.getCurrentName().equals(APPLICATIONS_FIELD)) {
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            if (token != JsonToken.FIELD_NAME) {
+                throw new JsonParseException(parser, "Expected an " + APPLICATIONS_FIELD + " field");
+            }
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of applications");
+        }
+
+        List<Row<TreeNode>> rows = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            int lineNumber = parser.getTokenLocation().getLineNr();
+            rows.add(new Row<>(parser.readValueAsTree(), null, lineNumber));
+        }
+        ObjectCodec codec = parser.getCodec();
+        return convert(rows, node -> JsonSerializableApplicationBook.toApplication(codec, node));
+    }
+
+    /**
+     * Converts the applications in {@code rows} with {@code conversion}, in parallel if there are enough of them.
+     */
+    private static <S> Result convert(List<Row<S>> rows, ParallelApplicationConverter.Conversion<S> conversion) {
+        List<ParallelApplicationConverter.Result> results = ParallelApplicationConverter.convertAll(rows, row -> {
+            if (row.error != null) {
+                throw new IllegalValueException(row.error);
+            }
+            return conversion.apply(row.source);
+        });
+        List<Application> applications = new ArrayList<>(results.size());
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                applications.add(results.get(i).get());
+            } catch (IllegalValueException ive) {
+                errors.add(String.format(MESSAGE_INVALID_APPLICATION, rows.get(i).lineNumber, ive.getMessage()));
+            }
+        }
+        return new Result(applications, errors);
+    }
+
+    /**
+     * Reads the records of a CSV file, where values are separated by commas, and a value that contains commas,
+     * quotes or line breaks is enclosed in quotes, with any quotes in it doubled.
+     */
+    private static class CsvReader {
+        private final BufferedReader reader;
+        private int lineNumber = 1;
+        private int peeked = -2;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the line number of the next record to be read.
+         */
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the values of the next record, or null if there are no more records.
+         *
+         * @throws IllegalValueException if a quoted value is not closed.
+         */
+        List<String> readRecord() throws IOException, IllegalValueException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                if (c == CSV_QUOTE) {
+                    readQuoted(value);
+                    c = read();
+                } else if (c == CSV_SEPARATOR) {
+                    values.add(value.toString());
+                    value.setLength(0);
+                    c = read();
+                } else if (c == -1 || c == '\n' || c == '\r') {
+                    values.add(value.toString());
+                    endLine(c);
+                    return values;
+                } else {
+                    value.append((char) c);
+                    c = read();
+                }
+            }
+        }
+
+        private void readQuoted(StringBuilder value) throws IOException, IllegalValueException {
+            int firstLineNumber = lineNumber;
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNCLOSED_QUOTE, firstLineNumber));
+                }
+                if (c == CSV_QUOTE) {
+                    if (peek() != CSV_QUOTE) {
+                        return;
+                    }
+                    read();
+                } else if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                    lineNumber++;
+                }
+                value.append((char) c);
+            }
+        }
+
+        private void endLine(int c) throws IOException {
+            if (c == -1) {
+                return;
+            }
+            if (c == '\r' && peek() == '\n') {
+                read();
+            }
+            lineNumber++;
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private int peek() throws IOException {
+            if (peeked == -2) {
+                peeked = reader.read();
+            }
+            return peeked;
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package seedu.application.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.application.commons.core.LogsCenter;
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.commons.exceptions.IllegalValueException;
+import seedu.application.commons.util.FileUtil;
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.ReadOnlyApplicationBook;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.Company;
+import seedu.application.model.application.Contact;
+import seedu.application.model.application.Date;
+import seedu.application.model.application.Email;
+import seedu.application.model.application.Position;
+import seedu.application.model.application.exceptions.DuplicateApplicationException;
+
+/**
+ * A class to access ApplicationBook data stored in a compact binary format on the hard disk.
+ * The file starts with {@value #MAGIC_NUMBER_STRING} and a format version, followed by a table of the distinct
+ * company and position names, and then one record per application that refers to its names by their index in
+ * that table. Strings are stored as a length-prefixed run of UTF-8 bytes and dates as their epoch day.
+ *
+ * Data files in the json format are read as well, so switching an existing application book to this format
+ * converts it on the next save. Both formats hold exactly the same data, so an application book read through one
+ * storage can be saved through the other without loss.
+ */
+public class BinaryApplicationBookStorage implements ApplicationBookStorage {
+
+    public static final String MAGIC_NUMBER_STRING = "APBK";
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not an application book in binary format";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary format version %1$d";
+    public static final String MESSAGE_INVALID_NAME_INDEX = "Application refers to invalid name index %1$d";
+    public static final String MESSAGE_DATE_OUT_OF_RANGE = "Date %1$s cannot be stored in the binary format";
+    public static final String MESSAGE_TRUNCATED = "File ends in the middle of an application book";
+
+    private static final int MAGIC_NUMBER = 0x4150424B;
+    /** Bounds the space reserved up front for lists, so a corrupt count fails on reading rather than allocating. */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryApplicationBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryApplicationBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getApplicationBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyApplicationBook> readApplicationBook() throws DataConversionException, IOException {
+        return readApplicationBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readApplicationBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is in neither the binary nor the json format.
+     */
+    public Optional<ReadOnlyApplicationBook> readApplicationBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinaryFormat(filePath)) {
+            logger.info("Reading " + filePath + " in the json format");
+            return new JsonApplicationBookStorage(filePath).readApplicationBook(filePath);
+        }
+
+        try {
+            return Optional.of(readFrom(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (BufferUnderflowException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + MESSAGE_TRUNCATED);
+            throw new DataConversionException(new IllegalValueException(MESSAGE_TRUNCATED, e));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (DuplicateApplicationException dae) {
+            logger.info("Duplicate applications found in " + filePath + ": " + dae.getMessage());
+            throw new DataConversionException(dae);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@value #MAGIC_NUMBER_STRING}, so that it is read
+     * in the binary format by every application book storage.
+     */
+    static boolean isBinaryFormat(Path filePath) throws IOException {
+        try (InputStream input = Files.newInputStream(filePath)) {
+            byte[] magicNumber = new byte[MAGIC_NUMBER_STRING.length()];
+            int length = input.readNBytes(magicNumber, 0, magicNumber.length);
+            return length == magicNumber.length && new String(magicNumber, UTF_8).equals(MAGIC_NUMBER_STRING);
+        }
+    }
+
+    private static ApplicationBook readFrom(ByteBuffer input) throws IllegalValueException {
+        if (input.getInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = input.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // Companies and positions are immutable, so applications sharing a name can share the object as well.
+        int nameCount = readCount(input);
+        List<String> names = new ArrayList<>(Math.min(nameCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < nameCount; i++) {
+            names.add(readString(input));
+        }
+        Map<Integer, Company> companies = new HashMap<>();
+        Map<Integer, Position> positions = new HashMap<>();
+
+        int applicationCount = readCount(input);
+        List<Application> applications = new ArrayList<>(Math.min(applicationCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < applicationCount; i++) {
+            Company company = readName(input, names, companies, Company::isValidCompany, Company::new,
+                    Company.MESSAGE_CONSTRAINTS);
+            Position position = readName(input, names, positions, Position::isValidPosition, Position::new,
+                    Position.MESSAGE_CONSTRAINTS);
+            Contact contact = new Contact(readValidString(input, Contact::isValidContact,
+                    Contact.MESSAGE_CONSTRAINTS));
+            Email email = new Email(readValidString(input, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS));
+            Date date = new Date(LocalDate.ofEpochDay(input.getInt()).toString());
+            applications.add(new Application(company, contact, email, position, date));
+        }
+
+        ApplicationBook applicationBook = new ApplicationBook();
+        applicationBook.setApplications(applications);
+        return applicationBook;
+    }
+
+    private static <T> T readName(ByteBuffer input, List<String> names, Map<Integer, T> cache,
+            Predicate<String> validator, Function<String, T> constructor, String constraintsMessage)
+            throws IllegalValueException {
+        int index = input.getInt();
+        if (index < 0 || index >= names.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_NAME_INDEX, index));
+        }
+        T value = cache.get(index);
+        if (value == null) {
+            if (!validator.test(names.get(index))) {
+                throw new IllegalValueException(constraintsMessage);
+            }
+            value = constructor.apply(names.get(index));
+            cache.put(index, value);
+        }
+        return value;
+    }
+
+    private static String readValidString(ByteBuffer input, Predicate<String> validator,
+            String constraintsMessage) throws IllegalValueException {
+        String value = readString(input);
+        if (!validator.test(value)) {
+            throw new IllegalValueException(constraintsMessage);
+        }
+        return value;
+    }
+
+    private static int readCount(ByteBuffer input) throws IllegalValueException {
+        int count = input.getInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer input) throws IllegalValueException {
+        int length = readCount(input);
+        if (length > input.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    @Override
+    public void saveApplicationBook(ReadOnlyApplicationBook applicationBook) throws IOException {
+        saveApplicationBook(applicationBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveApplicationBook(ReadOnlyApplicationBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveApplicationBook(ReadOnlyApplicationBook applicationBook, Path filePath) throws IOException {
+        requireNonNull(applicationBook);
+        requireNonNull(filePath);
+
+        List<Application> applications = applicationBook.getApplicationList();
+        Map<String, Integer> nameIndexes = new LinkedHashMap<>();
+        for (Application application : applications) {
+            nameIndexes.putIfAbsent(application.getCompany().company, nameIndexes.size());
+            nameIndexes.putIfAbsent(application.getPosition().value, nameIndexes.size());
+            checkDateInRange(application.getDate());
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(nameIndexes.size());
+            for (String name : nameIndexes.keySet()) {
+                writeString(output, name);
+            }
+            output.writeInt(applications.size());
+            for (Application application : applications) {
+                output.writeInt(nameIndexes.get(application.getCompany().company));
+                output.writeInt(nameIndexes.get(application.getPosition().value));
+                writeString(output, application.getContact().value);
+                writeString(output, application.getEmail().value);
+                output.writeInt((int) application.getDate().value.toEpochDay());
+            }
+            output.flush();
+        });
+    }
+
+    private static void checkDateInRange(Date date) throws IOException {
+        long epochDay = date.value.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new IOException(String.format(MESSAGE_DATE_OUT_OF_RANGE, date.value));
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+}
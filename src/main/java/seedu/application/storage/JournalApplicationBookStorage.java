@@ -0,0 +1,301 @@
+package seedu.application.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.application.commons.core.LogsCenter;
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.commons.exceptions.IllegalValueException;
+import seedu.application.commons.util.FileUtil;
+import seedu.application.commons.util.JsonUtil;
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.ReadOnlyApplicationBook;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.exceptions.DuplicateApplicationException;
+
+/**
+ * A class to access ApplicationBook data stored on the hard disk as a json snapshot plus an append-only journal.
+ * Each save appends one line to the journal describing what changed since the previous save, so the cost of
+ * a save grows with the size of the change rather than the size of the application book. Once the journal
+ * holds more than a threshold number of records, it is compacted by writing a new snapshot.
+ * Reading replays the journal on top of the snapshot.
+ *
+ * The snapshot is stored at the application book file path and the journal next to it, with the suffix
+ * {@value #JOURNAL_FILE_SUFFIX}. The first line of the journal holds the id of the snapshot it belongs to,
+ * so a journal left behind by an interrupted compaction is recognised and ignored. An entry left incomplete by an
+ * interrupted save is skipped on reading, and cut off before the next entry is appended.
+ * A data file in the binary format of {@link BinaryApplicationBookStorage} is read as well, and replaced by a
+ * snapshot on the next save.
+ */
+public class JournalApplicationBookStorage implements ApplicationBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalApplicationBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // State of the data files last read or written through this storage, used to compute journal entries.
+    private Path lastFilePath;
+    private List<Application> lastApplications;
+    private long lastJournalId;
+    private int journalRecordCount;
+    /** Length in bytes of the journal last read or written, which ends with a complete entry. */
+    private long journalSize;
+    private boolean isCompactionRequired;
+
+    public JournalApplicationBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalApplicationBookStorage} at {@code filePath} that compacts its journal
+     * once it holds more than {@code compactionThreshold} records.
+     */
+    public JournalApplicationBookStorage(Path filePath, int compactionThreshold) {
+        if (compactionThreshold < 0) {
+            throw new IllegalArgumentException("Compaction threshold cannot be negative");
+        }
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getApplicationBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyApplicationBook> readApplicationBook() throws DataConversionException, IOException {
+        return readApplicationBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readApplicationBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyApplicationBook> readApplicationBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (FileUtil.isFileExists(filePath) && BinaryApplicationBookStorage.isBinaryFormat(filePath)) {
+            logger.info("Reading " + filePath + " in the binary format");
+            Optional<ReadOnlyApplicationBook> applicationBook =
+                    new BinaryApplicationBookStorage(filePath).readApplicationBook(filePath);
+            // a binary file has no journal, so the next save writes a snapshot in its place
+            isCompactionRequired = true;
+            return applicationBook;
+        }
+
+        Optional<JsonSerializableJournalSnapshot> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableJournalSnapshot.class);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<Application> applications = snapshot.get().toModelType();
+            long journalId = snapshot.get().getJournalId();
+            int replayedRecordCount = replayJournal(getJournalFilePath(filePath), journalId, applications);
+
+            ApplicationBook applicationBook = new ApplicationBook();
+            applicationBook.setApplications(applications);
+            recordState(filePath, applications, journalId, replayedRecordCount);
+            return Optional.of(applicationBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicateApplicationException dae) {
+            logger.info("Duplicate applications found in " + filePath + ": " + dae.getMessage());
+            throw new DataConversionException(dae);
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} to {@code applications}, provided the journal
+     * belongs to the snapshot with id {@code journalId}. A final entry that cannot be parsed is assumed to be a
+     * save that was interrupted, and is skipped. If there is no journal that can be appended to, the next save
+     * writes a new snapshot.
+     *
+     * @return the number of records replayed.
+     */
+    private int replayJournal(Path journalFilePath, long journalId, List<Application> applications)
+            throws IOException, IllegalValueException, DataConversionException {
+        if (journalId == JsonSerializableJournalSnapshot.NO_JOURNAL_ID || !FileUtil.isFileExists(journalFilePath)) {
+            isCompactionRequired = true;
+            return 0;
+        }
+
+        journalSize = Files.size(journalFilePath);
+        List<String> lines = Files.readAllLines(journalFilePath, UTF_8);
+        if (lines.isEmpty() || parseHeader(lines.get(0)).map(header -> header.journalId != journalId).orElse(true)) {
+            logger.info("Journal " + journalFilePath + " does not belong to the snapshot, ignoring it");
+            isCompactionRequired = true;
+            return 0;
+        }
+
+        int recordCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading entry " + i + " of journal " + journalFilePath + ": " + e);
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Skipping incomplete last entry of journal " + journalFilePath);
+                isCompactionRequired = true;
+                break;
+            }
+            entry.applyTo(applications);
+            recordCount += entry.size();
+        }
+        return recordCount;
+    }
+
+    private static Optional<JsonJournalHeader> parseHeader(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonJournalHeader.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveApplicationBook(ReadOnlyApplicationBook applicationBook) throws IOException {
+        saveApplicationBook(applicationBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveApplicationBook(ReadOnlyApplicationBook)}.
+     * Appends the changes since the last read or save to the journal if possible, and writes a new snapshot
+     * otherwise.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveApplicationBook(ReadOnlyApplicationBook applicationBook, Path filePath)
+            throws IOException {
+        requireNonNull(applicationBook);
+        requireNonNull(filePath);
+
+        List<Application> applications = new ArrayList<>(applicationBook.getApplicationList());
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (isCompactionRequired || !filePath.equals(lastFilePath) || !FileUtil.isFileExists(journalFilePath)
+                || Files.size(journalFilePath) < journalSize) {
+            writeSnapshot(applications, filePath);
+            return;
+        }
+
+        Optional<JsonAdaptedJournalEntry> entry = JsonAdaptedJournalEntry.fromChanges(lastApplications, applications);
+        if (!entry.isPresent() || journalRecordCount + entry.get().size() > compactionThreshold) {
+            writeSnapshot(applications, filePath);
+            return;
+        }
+        if (entry.get().size() == 0) {
+            return;
+        }
+
+        // An earlier append that failed part way leaves an incomplete entry, which would corrupt this one.
+        FileUtil.truncateFile(journalFilePath, journalSize);
+        FileUtil.appendToFile(journalFilePath, JsonUtil.toCompactJsonString(entry.get()) + System.lineSeparator());
+        journalSize = Files.size(journalFilePath);
+        recordState(filePath, applications, lastJournalId, journalRecordCount + entry.get().size());
+    }
+
+    /**
+     * Compacts the data files at {@code filePath} by replacing the snapshot with {@code applications}
+     * and starting an empty journal for it.
+     */
+    private void writeSnapshot(List<Application> applications, Path filePath) throws IOException {
+        long journalId = newJournalId();
+        Path journalFilePath = getJournalFilePath(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableJournalSnapshot(journalId, applications), filePath);
+        // A crash before the journal is replaced leaves a journal with the previous id, which is ignored on reading.
+        FileUtil.writeToFileAtomically(journalFilePath,
+                JsonUtil.toCompactJsonString(new JsonJournalHeader(journalId)) + System.lineSeparator());
+
+        journalSize = Files.size(journalFilePath);
+        isCompactionRequired = false;
+        recordState(filePath, applications, journalId, 0);
+    }
+
+    /**
+     * Saves the application book at {@code filePath}, together with the changes in its journal, through
+     * {@code applicationBookStorage}, which stores it in another format, and then deletes the journal.
+     * This keeps the changes in the journal when the storage format is changed away from the journal.
+     * Does nothing if there is no journal next to {@code filePath}.
+     *
+     * @return true if there was a journal.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public static boolean foldJournalInto(Path filePath, ApplicationBookStorage applicationBookStorage)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(applicationBookStorage);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return false;
+        }
+        Optional<ReadOnlyApplicationBook> applicationBook =
+                new JournalApplicationBookStorage(filePath).readApplicationBook(filePath);
+        if (applicationBook.isPresent()) {
+            applicationBookStorage.saveApplicationBook(applicationBook.get(), filePath);
+        }
+        Files.delete(journalFilePath);
+        return true;
+    }
+
+    private void recordState(Path filePath, List<Application> applications, long journalId, int recordCount) {
+        lastFilePath = filePath;
+        lastApplications = applications;
+        lastJournalId = journalId;
+        journalRecordCount = recordCount;
+    }
+
+    private static long newJournalId() {
+        long journalId;
+        do {
+            journalId = ThreadLocalRandom.current().nextLong();
+        } while (journalId == JsonSerializableJournalSnapshot.NO_JOURNAL_ID);
+        return journalId;
+    }
+
+    /**
+     * Jackson-friendly first line of a journal.
+     */
+    static class JsonJournalHeader {
+        private final long journalId;
+
+        @JsonCreator
+        public JsonJournalHeader(@JsonProperty("journalId") long journalId) {
+            this.journalId = journalId;
+        }
+    }
+
+}
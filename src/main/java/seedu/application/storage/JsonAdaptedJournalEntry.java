@@ -0,0 +1,157 @@
+package seedu.application.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.application.commons.exceptions.IllegalValueException;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.ApplicationIdentity;
+
+/**
+ * Jackson-friendly record of the changes made to an application book by one save,
+ * as appended to the journal of {@link JournalApplicationBookStorage}.
+ * Changes are applied in the order clear, delete, edit, add, which is enough to turn the application list
+ * before the save into the application list after it.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ADD_INDEX = "Journal adds an application at invalid index %1$d";
+
+    private final boolean cleared;
+    private final List<JsonAdaptedApplication> deleted = new ArrayList<>();
+    private final List<JsonAdaptedApplication> edited = new ArrayList<>();
+    private final List<JsonAdaptedIndexedApplication> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("cleared") boolean cleared,
+                                   @JsonProperty("deleted") List<JsonAdaptedApplication> deleted,
+                                   @JsonProperty("edited") List<JsonAdaptedApplication> edited,
+                                   @JsonProperty("added") List<JsonAdaptedIndexedApplication> added) {
+        this.cleared = cleared;
+        if (deleted != null) {
+            this.deleted.addAll(deleted);
+        }
+        if (edited != null) {
+            this.edited.addAll(edited);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Returns the entry that turns {@code before} into {@code after}, or {@code Optional.empty()} if that
+     * cannot be expressed as an entry because applications present in both lists have changed order.
+     */
+    public static Optional<JsonAdaptedJournalEntry> fromChanges(List<Application> before, List<Application> after) {
+        if (after.isEmpty()) {
+            return Optional.of(new JsonAdaptedJournalEntry(!before.isEmpty(), null, null, null));
+        }
+
+        Map<ApplicationIdentity, Application> afterByIdentity = new HashMap<>();
+        for (Application application : after) {
+            afterByIdentity.put(new ApplicationIdentity(application), application);
+        }
+
+        List<JsonAdaptedApplication> deleted = new ArrayList<>();
+        List<JsonAdaptedApplication> edited = new ArrayList<>();
+        List<ApplicationIdentity> keptIdentities = new ArrayList<>();
+        Set<ApplicationIdentity> beforeIdentities = new HashSet<>();
+        for (Application application : before) {
+            ApplicationIdentity identity = new ApplicationIdentity(application);
+            beforeIdentities.add(identity);
+            Application afterApplication = afterByIdentity.get(identity);
+            if (afterApplication == null) {
+                deleted.add(new JsonAdaptedApplication(application));
+                continue;
+            }
+            keptIdentities.add(identity);
+            if (!afterApplication.equals(application)) {
+                edited.add(new JsonAdaptedApplication(afterApplication));
+            }
+        }
+
+        List<JsonAdaptedIndexedApplication> added = new ArrayList<>();
+        Iterator<ApplicationIdentity> keptIdentitiesInOrder = keptIdentities.iterator();
+        for (int i = 0; i < after.size(); i++) {
+            ApplicationIdentity identity = new ApplicationIdentity(after.get(i));
+            if (!beforeIdentities.contains(identity)) {
+                added.add(new JsonAdaptedIndexedApplication(i, new JsonAdaptedApplication(after.get(i))));
+            } else if (!identity.equals(keptIdentitiesInOrder.next())) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(new JsonAdaptedJournalEntry(false, deleted, edited, added));
+    }
+
+    /**
+     * Returns the number of records in this entry, counting a clear as one record.
+     */
+    public int size() {
+        return (cleared ? 1 : 0) + deleted.size() + edited.size() + added.size();
+    }
+
+    /**
+     * Applies the changes in this entry to {@code applications}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded applications.
+     */
+    public void applyTo(List<Application> applications) throws IllegalValueException {
+        if (cleared) {
+            applications.clear();
+        }
+
+        Set<ApplicationIdentity> deletedIdentities = new HashSet<>();
+        for (JsonAdaptedApplication application : deleted) {
+            deletedIdentities.add(new ApplicationIdentity(application.toModelType()));
+        }
+        applications.removeIf(application -> deletedIdentities.contains(new ApplicationIdentity(application)));
+
+        Map<ApplicationIdentity, Application> editedByIdentity = new HashMap<>();
+        for (JsonAdaptedApplication application : edited) {
+            Application editedApplication = application.toModelType();
+            editedByIdentity.put(new ApplicationIdentity(editedApplication), editedApplication);
+        }
+        applications.replaceAll(application ->
+                editedByIdentity.getOrDefault(new ApplicationIdentity(application), application));
+
+        for (JsonAdaptedIndexedApplication application : added) {
+            if (application.index < 0 || application.index > applications.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ADD_INDEX, application.index));
+            }
+            applications.add(application.index, application.application.toModelType());
+        }
+    }
+
+    /**
+     * Jackson-friendly version of an {@link Application} together with its index in the application list.
+     */
+    static class JsonAdaptedIndexedApplication {
+        private final int index;
+        private final JsonAdaptedApplication application;
+
+        /**
+         * Constructs a {@code JsonAdaptedIndexedApplication} with the given index and application.
+         */
+        @JsonCreator
+        public JsonAdaptedIndexedApplication(@JsonProperty("index") int index,
+                                             @JsonProperty("application") JsonAdaptedApplication application) {
+            this.index = index;
+            this.application = application;
+        }
+    }
+
+}
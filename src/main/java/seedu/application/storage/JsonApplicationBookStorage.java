@@ -9,22 +9,39 @@ import java.util.logging.Logger;
 
 import seedu.application.commons.core.LogsCenter;
 import seedu.application.commons.exceptions.DataConversionException;
-import seedu.application.commons.exceptions.IllegalValueException;
 import seedu.application.commons.util.FileUtil;
 import seedu.application.commons.util.JsonUtil;
 import seedu.application.model.ReadOnlyApplicationBook;
 
 /**
  * A class to access ApplicationBook data stored as a json file on the hard disk.
+ * Reads and saves are streamed one application at a time, so at most one application is held in its json form
+ * in memory at any time.
+ * Data files in the binary format of {@link BinaryApplicationBookStorage} are read as well, so switching an
+ * existing application book back to json converts it on the next save instead of losing it.
  */
 public class JsonApplicationBookStorage implements ApplicationBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonApplicationBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isSkippingInvalidApplications;
 
     public JsonApplicationBookStorage(Path filePath) {
+        this(filePath, false, false);
+    }
+
+    /**
+     * Creates a {@code JsonApplicationBookStorage} at {@code filePath} that saves compact, single-line json
+     * if {@code isCompact} is true, and pretty-printed json otherwise.
+     * If {@code isSkippingInvalidApplications} is true, invalid applications are left out when reading instead of
+     * failing the whole read.
+     */
+    public JsonApplicationBookStorage(Path filePath, boolean isCompact, boolean isSkippingInvalidApplications) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isSkippingInvalidApplications = isSkippingInvalidApplications;
     }
 
     public Path getApplicationBookFilePath() {
@@ -40,23 +57,23 @@ public class JsonApplicationBookStorage implements ApplicationBookStorage {
      * Similar to {@link #readApplicationBook()}.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file is in neither the json nor the binary format.
      */
     public Optional<ReadOnlyApplicationBook> readApplicationBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableApplicationBook> jsonApplicationBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableApplicationBook.class);
-        if (!jsonApplicationBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonApplicationBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            if (FileUtil.isFileExists(filePath) && BinaryApplicationBookStorage.isBinaryFormat(filePath)) {
+                logger.info("Reading " + filePath + " in the binary format");
+                return new BinaryApplicationBookStorage(filePath).readApplicationBook(filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         }
+
+        return JsonUtil.readJsonFile(filePath, parser ->
+                JsonSerializableApplicationBook.readFrom(parser, isSkippingInvalidApplications));
     }
 
     @Override
@@ -74,7 +91,8 @@ public class JsonApplicationBookStorage implements ApplicationBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableApplicationBook(applicationBook), filePath);
+        JsonUtil.saveJsonFile(filePath, isCompact, generator ->
+                JsonSerializableApplicationBook.writeTo(applicationBook, generator));
     }
 
 }
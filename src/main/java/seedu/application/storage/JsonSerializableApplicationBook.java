@@ -1,17 +1,31 @@
 package seedu.application.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.TreeNode;
 
+import seedu.application.commons.core.LogsCenter;
 import seedu.application.commons.exceptions.IllegalValueException;
 import seedu.application.model.ApplicationBook;
 import seedu.application.model.ReadOnlyApplicationBook;
 import seedu.application.model.application.Application;
+import seedu.application.model.application.ApplicationIdentity;
 
 /**
  * An Immutable ApplicationBook that is serializable to JSON format.
@@ -20,6 +34,14 @@ import seedu.application.model.application.Application;
 class JsonSerializableApplicationBook {
 
     public static final String MESSAGE_DUPLICATE_APPLICATION = "Application list contains duplicate application(s).";
+    public static final String MESSAGE_INVALID_APPLICATION = "Application %1$d at line %2$d, column %3$d: %4$s";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Application is not a json object";
+
+    private static final String APPLICATIONS_FIELD = "applications";
+    /** Number of applications parsed before they are converted together. */
+    private static final int CONVERSION_CHUNK_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableApplicationBook.class);
 
     private final List<JsonAdaptedApplication> applications = new ArrayList<>();
 
@@ -41,20 +63,143 @@ class JsonSerializableApplicationBook {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one application at a time,
+     * without building a {@code JsonSerializableApplicationBook} of the whole book first.
+     */
+    public static void writeTo(ReadOnlyApplicationBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(APPLICATIONS_FIELD);
+        for (Application application : source.getApplicationList()) {
+            generator.writeObject(new JsonAdaptedApplication(application));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an application book in the format of this class from {@code parser}. Applications are converted and
+     * validated a chunk at a time as they are parsed, in parallel for large chunks, so only one chunk of
+     * applications is held in its json form at a time.
+     * An invalid application is reported with its position in the file. If {@code isSkippingInvalidApplications}
+     * is true, it is logged and left out of the application book instead.
+     *
+     * @throws IllegalValueException if an application is invalid and invalid applications are not being skipped.
+     * @throws IOException if the json is malformed or not laid out as an application book.
+     */
+    public static ApplicationBook readFrom(JsonParser parser, boolean isSkippingInvalidApplications)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an application book object");
+        }
+
+        List<Application> applications = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!fieldName.equals(APPLICATIONS_FIELD)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of applications");
+            }
+            readApplications(parser, isSkippingInvalidApplications, applications);
+        }
+
+        ApplicationBook applicationBook = new ApplicationBook();
+        applicationBook.setApplications(applications);
+        return applicationBook;
+    }
+
+    private static void readApplications(JsonParser parser, boolean isSkippingInvalidApplications,
+            List<Application> applications) throws IOException, IllegalValueException {
+        Set<ApplicationIdentity> identities = new HashSet<>();
+        List<TreeNode> chunk = new ArrayList<>();
+        List<JsonLocation> chunkLocations = new ArrayList<>();
+        int applicationCount = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            chunkLocations.add(parser.getTokenLocation());
+            chunk.add(parser.readValueAsTree());
+            if (chunk.size() == CONVERSION_CHUNK_SIZE) {
+                mergeChunk(parser.getCodec(), chunk, chunkLocations, applicationCount, isSkippingInvalidApplications,
+                        identities, applications);
+                applicationCount += chunk.size();
+                chunk.clear();
+                chunkLocations.clear();
+            }
+        }
+        mergeChunk(parser.getCodec(), chunk, chunkLocations, applicationCount, isSkippingInvalidApplications,
+                identities, applications);
+    }
+
+    /**
+     * Converts the applications in {@code chunk}, in parallel if there are enough of them, and then adds them
+     * to {@code applications} in order, checking each against the {@code identities} of the applications
+     * before it.
+     *
+     * @param firstApplicationIndex zero-based index of the first application of the chunk in the file.
+     */
+    private static void mergeChunk(ObjectCodec codec, List<TreeNode> chunk, List<JsonLocation> chunkLocations,
+            int firstApplicationIndex, boolean isSkippingInvalidApplications, Set<ApplicationIdentity> identities,
+            List<Application> applications) throws IllegalValueException {
+        List<ParallelApplicationConverter.Result> results = ParallelApplicationConverter.convertAll(chunk,
+                node -> toApplication(codec, node));
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                Application application = results.get(i).get();
+                if (!identities.add(new ApplicationIdentity(application))) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
+                }
+                applications.add(application);
+            } catch (IllegalValueException ive) {
+                JsonLocation location = chunkLocations.get(i);
+                String message = String.format(MESSAGE_INVALID_APPLICATION, firstApplicationIndex + i + 1,
+                        location.getLineNr(), location.getColumnNr(), ive.getMessage());
+                if (!isSkippingInvalidApplications) {
+                    throw new IllegalValueException(message, ive);
+                }
+                logger.warning("Skipping invalid application. " + message);
+            }
+        }
+    }
+
+    /**
+     * Converts the json {@code node} of an application into the model's {@code Application} object.
+     *
+     * @throws IllegalValueException if {@code node} is not an application object or violates any data constraints.
+     */
+    static Application toApplication(ObjectCodec codec, TreeNode node) throws IllegalValueException {
+        if (node == null || !node.isObject()) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+        }
+
+        JsonAdaptedApplication jsonAdaptedApplication;
+        try {
+            jsonAdaptedApplication = codec.treeToValue(node, JsonAdaptedApplication.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalValueException(e.getOriginalMessage(), e);
+        }
+        return jsonAdaptedApplication.toModelType();
+    }
+
     /**
      * Converts this application book into the model's {@code ApplicationBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ApplicationBook toModelType() throws IllegalValueException {
-        ApplicationBook applicationBook = new ApplicationBook();
-        for (JsonAdaptedApplication jsonAdaptedApplication : applications) {
-            Application application = jsonAdaptedApplication.toModelType();
-            if (applicationBook.hasApplication(application)) {
+        List<Application> modelApplications = ParallelApplicationConverter.convertAllOrThrow(applications,
+                JsonAdaptedApplication::toModelType);
+        Set<ApplicationIdentity> identities = new HashSet<>();
+        for (Application application : modelApplications) {
+            if (!identities.add(new ApplicationIdentity(application))) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_APPLICATION);
             }
-            applicationBook.addApplication(application);
         }
+
+        ApplicationBook applicationBook = new ApplicationBook();
+        applicationBook.setApplications(modelApplications);
         return applicationBook;
     }
 
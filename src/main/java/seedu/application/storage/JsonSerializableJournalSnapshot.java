@@ -0,0 +1,61 @@
+package seedu.application.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.application.commons.exceptions.IllegalValueException;
+import seedu.application.model.application.Application;
+
+/**
+ * A snapshot of an application book written by {@link JournalApplicationBookStorage}, serializable to JSON format.
+ * The snapshot has the same layout as {@link JsonSerializableApplicationBook}, plus the id of the journal
+ * whose entries apply on top of it, so plain JSON data files can be read as snapshots and vice versa.
+ */
+class JsonSerializableJournalSnapshot {
+
+    /** Journal id of snapshots that have no journal, such as data files written in the plain JSON format. */
+    public static final long NO_JOURNAL_ID = 0;
+
+    private final long journalId;
+    private final List<JsonAdaptedApplication> applications = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableJournalSnapshot} with the given journal id and applications.
+     */
+    @JsonCreator
+    public JsonSerializableJournalSnapshot(@JsonProperty("journalId") long journalId,
+                                           @JsonProperty("applications") List<JsonAdaptedApplication> applications) {
+        this.journalId = journalId;
+        if (applications != null) {
+            this.applications.addAll(applications);
+        }
+    }
+
+    /**
+     * Converts the given applications into a snapshot followed by the journal with id {@code journalId}.
+     */
+    public JsonSerializableJournalSnapshot(long journalId, Iterable<Application> source) {
+        this.journalId = journalId;
+        for (Application application : source) {
+            applications.add(new JsonAdaptedApplication(application));
+        }
+    }
+
+    public long getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * Converts the applications in this snapshot into the model's {@code Application} objects, in order.
+     * Uniqueness is checked by the caller once the journal has been replayed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Application> toModelType() throws IllegalValueException {
+        return ParallelApplicationConverter.convertAllOrThrow(applications, JsonAdaptedApplication::toModelType);
+    }
+
+}
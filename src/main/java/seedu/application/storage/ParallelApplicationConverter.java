@@ -0,0 +1,86 @@
+package seedu.application.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.application.commons.exceptions.IllegalValueException;
+import seedu.application.model.application.Application;
+
+/**
+ * Converts stored applications into the model's {@code Application} objects, validating them on all available
+ * cores when there are enough of them to be worth it.
+ * Conversions are independent of each other, so only the uniqueness check needs to see every application,
+ * and that is left to a single pass over the converted results by the caller.
+ */
+class ParallelApplicationConverter {
+
+    /** Smallest number of applications that are converted in parallel. */
+    public static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Converts a stored application of type {@code S} into an {@code Application}.
+     */
+    @FunctionalInterface
+    interface Conversion<S> {
+        Application apply(S source) throws IllegalValueException;
+    }
+
+    /**
+     * Outcome of converting one stored application: either the application or the reason it is invalid.
+     */
+    static class Result {
+        private final Application application;
+        private final IllegalValueException exception;
+
+        private Result(Application application, IllegalValueException exception) {
+            this.application = application;
+            this.exception = exception;
+        }
+
+        /**
+         * Returns the converted application.
+         *
+         * @throws IllegalValueException if the stored application was invalid.
+         */
+        public Application get() throws IllegalValueException {
+            if (exception != null) {
+                throw exception;
+            }
+            return application;
+        }
+    }
+
+    /**
+     * Converts every one of {@code sources} with {@code conversion}, in parallel if there are at least
+     * {@value #PARALLEL_THRESHOLD} of them, and returns the results in the order of {@code sources}.
+     */
+    public static <S> List<Result> convertAll(List<S> sources, Conversion<S> conversion) {
+        Stream<S> stream = sources.size() >= PARALLEL_THRESHOLD ? sources.parallelStream() : sources.stream();
+        return stream.map(source -> convert(source, conversion)).collect(Collectors.toList());
+    }
+
+    /**
+     * Similar to {@link #convertAll(List, Conversion)}, but returns the converted applications themselves.
+     *
+     * @throws IllegalValueException of the first invalid application in {@code sources}, if any.
+     */
+    public static <S> List<Application> convertAllOrThrow(List<S> sources, Conversion<S> conversion)
+            throws IllegalValueException {
+        List<Application> applications = new ArrayList<>(sources.size());
+        for (Result result : convertAll(sources, conversion)) {
+            applications.add(result.get());
+        }
+        return applications;
+    }
+
+    private static <S> Result convert(S source, Conversion<S> conversion) {
+        try {
+            return new Result(conversion.apply(source), null);
+        } catch (IllegalValueException ive) {
+            return new Result(null, ive);
+        }
+    }
+
+}
@@ -17,8 +17,12 @@ import seedu.application.model.UserPrefs;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final long NO_SAVED_VERSION = -1;
+
     private ApplicationBookStorage applicationBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private long lastSavedVersion = NO_SAVED_VERSION;
+    private Path lastSavedFilePath;
 
     /**
      * Creates a {@code StorageManager} with the given {@code ApplicationBookStorage}
@@ -71,10 +75,23 @@ public class StorageManager implements Storage {
         saveApplicationBook(applicationBook, applicationBookStorage.getApplicationBookFilePath());
     }
 
+    /**
+     * {@inheritDoc}
+     * The write is skipped if {@code applicationBook} has the same version as the application book
+     * last successfully saved to {@code filePath} through this {@code StorageManager}.
+     */
     @Override
-    public void saveApplicationBook(ReadOnlyApplicationBook applicationBook, Path filePath) throws IOException {
+    public synchronized void saveApplicationBook(ReadOnlyApplicationBook applicationBook, Path filePath)
+            throws IOException {
+        if (applicationBook.getVersion() == lastSavedVersion && filePath.equals(lastSavedFilePath)) {
+            logger.fine("Application book unchanged since last save, skipping write to data file: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
         applicationBookStorage.saveApplicationBook(applicationBook, filePath);
+        lastSavedVersion = applicationBook.getVersion();
+        lastSavedFilePath = filePath;
     }
 
 }
@@ -0,0 +1,169 @@
+package seedu.application.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.application.commons.core.LogsCenter;
+import seedu.application.commons.util.StringUtil;
+import seedu.application.model.ReadOnlyApplicationBook;
+import seedu.application.model.application.Application;
+
+/**
+ * Saves application books on a single background thread so that callers do not wait for the file to be written.
+ * Save requests made in quick succession are coalesced: only the latest requested state is written, at most
+ * {@code maxLatencyMillis} after the first request of the burst.
+ * Callers that need the data on disk before continuing can use {@link #flush()} as a durability barrier.
+ */
+public class WriteBehindApplicationBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindApplicationBookSaver.class);
+
+    private final ApplicationBookStorage applicationBookStorage;
+    private final long maxLatencyMillis;
+    private final ScheduledExecutorService executor;
+
+    /** Latest state that has been requested but not yet written, or null if there is none. */
+    private ReadOnlyApplicationBook pendingSnapshot;
+    /** True if a write of {@code pendingSnapshot} has already been scheduled. */
+    private boolean isWriteScheduled;
+    /** First failure of a background write since failures were last reported, or null if there is none. */
+    private IOException writeFailure;
+
+    /**
+     * Creates a {@code WriteBehindApplicationBookSaver} that writes to {@code applicationBookStorage}
+     * no later than {@code maxLatencyMillis} after a save is requested.
+     */
+    public WriteBehindApplicationBookSaver(ApplicationBookStorage applicationBookStorage, long maxLatencyMillis) {
+        requireNonNull(applicationBookStorage);
+        if (maxLatencyMillis < 0) {
+            throw new IllegalArgumentException("Maximum save latency cannot be negative");
+        }
+        this.applicationBookStorage = applicationBookStorage;
+        this.maxLatencyMillis = maxLatencyMillis;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests that the current state of {@code applicationBook} be saved.
+     * The state is captured before this method returns, so later changes to {@code applicationBook}
+     * are not written by this request.
+     */
+    public synchronized void requestSave(ReadOnlyApplicationBook applicationBook) {
+        requireNonNull(applicationBook);
+        pendingSnapshot = new Snapshot(applicationBook);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.schedule(this::writePendingSnapshot, maxLatencyMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     *
+     * @throws IOException if any background write has failed since failures were last reported.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for application book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to save application book", e.getCause());
+        }
+        checkWriteFailure();
+    }
+
+    /**
+     * Reports the first failure of a background write since failures were last reported, without waiting for
+     * pending saves. Each failure is reported once, and the state that failed to be written is not retried, so
+     * callers should request it again.
+     *
+     * @throws IOException if a background write has failed.
+     */
+    public void checkWriteFailure() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Flushes all pending saves and stops the background thread.
+     * No further saves can be requested after this.
+     *
+     * @throws IOException if any background write since the last flush has failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyApplicationBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            applicationBookStorage.saveApplicationBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save application book : " + StringUtil.getDetails(e));
+            synchronized (this) {
+                if (writeFailure == null) {
+                    writeFailure = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * An immutable copy of an application book's contents, safe to read from the saver thread.
+     * Applications are immutable, so copying the list itself is sufficient.
+     */
+    private static class Snapshot implements ReadOnlyApplicationBook {
+        private final ObservableList<Application> applications;
+        private final long version;
+
+        Snapshot(ReadOnlyApplicationBook source) {
+            applications = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(new ArrayList<>(source.getApplicationList())));
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Application> getApplicationList() {
+            return applications;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
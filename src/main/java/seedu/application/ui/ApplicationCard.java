@@ -1,10 +1,14 @@
 package seedu.application.ui;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
+import seedu.application.model.query.Highlights.Span;
 
 /**
  * A UI component that displays information of an {@code Application}.
@@ -12,6 +16,9 @@ import seedu.application.model.application.Application;
 public class ApplicationCard extends UiPart<Region> {
 
     private static final String FXML = "ApplicationListCard.fxml";
+    private static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+    private static final String SMALL_LABEL_STYLE_CLASS = "cell_small_label";
+    private static final String HIGHLIGHT_STYLE_CLASS = "cell_highlight";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -24,32 +31,62 @@ public class ApplicationCard extends UiPart<Region> {
     @FXML
     private HBox cardPane;
     @FXML
-    private Label company;
+    private HBox company;
     @FXML
     private Label id;
     @FXML
     private Label contact;
     @FXML
-    private Label position;
+    private HBox position;
     @FXML
-    private Label email;
+    private HBox email;
     @FXML
     private Label date;
 
     /**
-     * Creates an {@code ApplicationCard} with the given {@code Application} and index to display.
+     * Creates an {@code ApplicationCard} with the given {@code Application} and index to display, with the parts
+     * in {@code highlights} highlighted.
      */
-    public ApplicationCard(Application application, int displayedIndex) {
+    public ApplicationCard(Application application, int displayedIndex, Highlights highlights) {
         super(FXML);
         this.application = application;
         id.setText(displayedIndex + ". ");
-        company.setText(application.getCompany().company);
+        setHighlightedText(company, application.getCompany().company,
+                highlights.getSpans(Highlights.Field.COMPANY), BIG_LABEL_STYLE_CLASS);
         contact.setText(application.getContact().value);
-        position.setText(application.getPosition().value);
-        email.setText(application.getEmail().value);
+        setHighlightedText(position, application.getPosition().value,
+                highlights.getSpans(Highlights.Field.POSITION), SMALL_LABEL_STYLE_CLASS);
+        setHighlightedText(email, application.getEmail().value,
+                highlights.getSpans(Highlights.Field.EMAIL), SMALL_LABEL_STYLE_CLASS);
         date.setText(application.getDate().toString());
     }
 
+    /**
+     * Fills {@code pane} with labels that show {@code text}, one for each fragment of the text that is either
+     * inside or outside the {@code spans} to highlight.
+     */
+    private static void setHighlightedText(HBox pane, String text, List<Span> spans, String styleClass) {
+        int fragmentStart = 0;
+        for (Span span : spans) {
+            addFragment(pane, text.substring(fragmentStart, span.getStart()), styleClass, false);
+            addFragment(pane, text.substring(span.getStart(), span.getEnd()), styleClass, true);
+            fragmentStart = span.getEnd();
+        }
+        addFragment(pane, text.substring(fragmentStart), styleClass, false);
+    }
+
+    private static void addFragment(HBox pane, String fragment, String styleClass, boolean isHighlighted) {
+        if (fragment.isEmpty()) {
+            return;
+        }
+        Label label = new Label(fragment);
+        label.getStyleClass().add(styleClass);
+        if (isHighlighted) {
+            label.getStyleClass().add(HIGHLIGHT_STYLE_CLASS);
+        }
+        pane.getChildren().add(label);
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -1,5 +1,6 @@
 package seedu.application.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +10,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.application.commons.core.LogsCenter;
 import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
 
 /**
  * Panel containing the list of applications.
@@ -17,14 +19,19 @@ public class ApplicationListPanel extends UiPart<Region> {
     private static final String FXML = "ApplicationListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(ApplicationListPanel.class);
 
+    private final Function<Application, Highlights> highlighter;
+
     @FXML
     private ListView<Application> applicationListView;
 
     /**
-     * Creates an {@code ApplicationListPanel} with the given {@code ObservableList}.
+     * Creates an {@code ApplicationListPanel} with the given {@code ObservableList}, where each application is shown
+     * with the parts that {@code highlighter} returns for it highlighted.
      */
-    public ApplicationListPanel(ObservableList<Application> applicationList) {
+    public ApplicationListPanel(ObservableList<Application> applicationList,
+            Function<Application, Highlights> highlighter) {
         super(FXML);
+        this.highlighter = highlighter;
         applicationListView.setItems(applicationList);
         applicationListView.setCellFactory(listView -> new ApplicationListViewCell());
     }
@@ -41,7 +48,7 @@ public class ApplicationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ApplicationCard(application, getIndex() + 1).getRoot());
+                setGraphic(new ApplicationCard(application, getIndex() + 1, highlighter.apply(application)).getRoot());
             }
         }
     }
@@ -1,6 +1,8 @@
 package seedu.application;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +39,49 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_scriptPath_headless() {
+        parametersStub.namedParameters.put("script", "script.txt");
+        expected.setScriptPath(Paths.get("script.txt"));
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_standardInputScript_headless() {
+        parametersStub.namedParameters.put("script", AppParameters.STANDARD_INPUT_SCRIPT);
+        expected.setReadingStandardInput(true);
+        AppParameters appParameters = AppParameters.parse(parametersStub);
+        assertEquals(expected, appParameters);
+        assertTrue(appParameters.isHeadless());
+    }
+
+    @Test
+    public void parse_invalidScriptPath_notHeadless() {
+        parametersStub.namedParameters.put("script", "a\0");
+        assertFalse(AppParameters.parse(parametersStub).isHeadless());
+    }
+
+    @Test
+    public void parse_saveInterval() {
+        parametersStub.namedParameters.put("save-every", "100");
+        expected.setSaveInterval(100);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("save-every", "-1");
+        assertEquals(new AppParameters(), AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_parsesNamedArguments() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setReadingStandardInput(true);
+        expected.setSaveInterval(5);
+        assertEquals(expected, AppParameters.parse(
+                new String[] {"--config=config.json", "--script=-", "--save-every=5", "unnamed", "--=x"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,99 @@
+package seedu.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.commons.core.Config;
+import seedu.application.commons.util.ConfigUtil;
+import seedu.application.model.ReadOnlyApplicationBook;
+import seedu.application.model.UserPrefs;
+import seedu.application.storage.JsonApplicationBookStorage;
+import seedu.application.storage.JsonUserPrefsStorage;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_GOOGLE = "add c/Google ct/11111111 e/google@example.com p/Engineer d/2022-01-01";
+    private static final String ADD_GRAB = "add c/Grab ct/22222222 e/grab@example.com p/Engineer d/2022-02-01";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final AppParameters appParameters = new AppParameters();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Path applicationBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        applicationBookFilePath = temporaryFolder.resolve("applicationbook.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        ConfigUtil.saveConfig(config, configFilePath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setApplicationBookFilePath(applicationBookFilePath);
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+        // starts from an empty application book rather than the sample data
+        Files.writeString(applicationBookFilePath, "{\"applications\":[]}");
+
+        appParameters.setConfigPath(configFilePath);
+    }
+
+    @Test
+    public void run_standardInput_executesAndSavesCommands() throws Exception {
+        appParameters.setReadingStandardInput(true);
+        assertEquals(0, run(ADD_GOOGLE + "\n\n# a comment\n" + ADD_GRAB + "\n"));
+        assertEquals(2, readApplicationBook().getApplicationList().size());
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_scriptFile_executesCommandsUntilExit() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, ADD_GOOGLE + "\nexit\n" + ADD_GRAB + "\n");
+        appParameters.setScriptPath(scriptPath);
+        assertEquals(0, run(""));
+        assertEquals(1, readApplicationBook().getApplicationList().size());
+    }
+
+    @Test
+    public void run_failingCommand_continuesAndReturnsFailure() throws Exception {
+        appParameters.setReadingStandardInput(true);
+        assertEquals(1, run(ADD_GOOGLE + "\ndelete 5\n" + ADD_GRAB + "\n"));
+        assertEquals(2, readApplicationBook().getApplicationList().size());
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Line 2: delete 5"));
+    }
+
+    @Test
+    public void run_missingScriptFile_returnsFailure() {
+        appParameters.setScriptPath(temporaryFolder.resolve("missing.txt"));
+        assertEquals(1, run(""));
+    }
+
+    private int run(String input) {
+        return new HeadlessApp(appParameters, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(out, true), new PrintStream(err, true)).run();
+    }
+
+    private ReadOnlyApplicationBook readApplicationBook() throws Exception {
+        Optional<ReadOnlyApplicationBook> applicationBook =
+                new JsonApplicationBookStorage(applicationBookFilePath).readApplicationBook();
+        return applicationBook.get();
+    }
+
+}
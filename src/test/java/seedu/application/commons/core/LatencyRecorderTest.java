@@ -0,0 +1,65 @@
+package seedu.application.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.application.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void getPercentileNanos_unsortedLatencies_returnsNearestRank() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int latency = 100; latency >= 1; latency--) {
+            recorder.record(latency);
+        }
+        assertEquals(100, recorder.getCount());
+        assertEquals(5050, recorder.getTotalNanos());
+        assertEquals(1, recorder.getPercentileNanos(0.1));
+        assertEquals(50, recorder.getPercentileNanos(50));
+        assertEquals(99, recorder.getPercentileNanos(99));
+        assertEquals(100, recorder.getPercentileNanos(99.9));
+        assertEquals(100, recorder.getMaxNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_recordAfterPercentile_includesNewLatency() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(5);
+        recorder.record(3);
+        assertEquals(5, recorder.getMaxNanos());
+        recorder.record(1);
+        recorder.record(9);
+        assertEquals(3, recorder.getPercentileNanos(50));
+        assertEquals(9, recorder.getMaxNanos());
+    }
+
+    @Test
+    public void record_manyLatencies_keepsAll() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < 5000; i++) {
+            recorder.record(i);
+        }
+        assertEquals(5000, recorder.getCount());
+        assertEquals(4999, recorder.getMaxNanos());
+    }
+
+    @Test
+    public void record_negativeLatency_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyRecorder().record(-1));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(1);
+        assertThrows(IllegalArgumentException.class, () -> recorder.getPercentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> recorder.getPercentileNanos(100.5));
+    }
+
+    @Test
+    public void getPercentileNanos_noLatencies_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new LatencyRecorder().getPercentileNanos(50));
+    }
+
+}
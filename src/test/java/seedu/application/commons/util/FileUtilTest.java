@@ -1,13 +1,37 @@
 package seedu.application.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.application.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.commons.util.FileUtil.FsyncPolicy;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        FileUtil.setFsyncPolicy(FsyncPolicy.ALWAYS);
+    }
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +44,115 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void findByExtension() {
+        String[] extensions = {".csv", ".json"};
+
+        // matching extension, ignoring case -> found
+        assertEquals(Optional.of(".json"),
+                FileUtil.findByExtension(Paths.get("data", "file.JSON"), extensions, extension -> extension));
+
+        // no matching extension -> empty
+        assertFalse(FileUtil.findByExtension(Paths.get("file.txt"), extensions, extension -> extension).isPresent());
+        assertFalse(FileUtil.findByExtension(Paths.get("csv"), extensions, extension -> extension).isPresent());
+
+        // no file name -> empty
+        assertFalse(FileUtil.findByExtension(Paths.get("/"), extensions, extension -> extension).isPresent());
+
+        // null file -> throws NullPointerException
+        assertThrows(NullPointerException.class, () ->
+                FileUtil.findByExtension(null, extensions, extension -> extension));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content that is longer than the new content");
+
+        FileUtil.writeToFileAtomically(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertNoTemporaryFiles();
+    }
+
+    @Test
+    public void writeToFileAtomically_missingFile_fileCreated() throws Exception {
+        Path file = testFolder.resolve("data.json");
+
+        FileUtil.writeToFileAtomically(file, "content");
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertNoTemporaryFiles();
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_permissionsKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+        assumeTrue(Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFileAtomically(file, "new content");
+
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_missingFile_defaultPermissions() throws Exception {
+        Path otherFile = Files.createFile(testFolder.resolve("other.json"));
+        assumeTrue(Files.getFileStore(otherFile).supportsFileAttributeView(PosixFileAttributeView.class));
+        Path file = testFolder.resolve("data.json");
+
+        FileUtil.writeToFileAtomically(file, "content");
+
+        assertEquals(Files.getPosixFilePermissions(otherFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("data.journal");
+        FileUtil.writeToFile(file, "first\n");
+
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void truncateFile_longerFile_cutDown() throws Exception {
+        Path file = testFolder.resolve("data.journal");
+        FileUtil.writeToFile(file, "first\nsec");
+
+        FileUtil.truncateFile(file, "first\n".length());
+        assertEquals("first\n", FileUtil.readFromFile(file));
+
+        // not longer than the size -> unchanged
+        FileUtil.truncateFile(file, "first\nsecond\n".length());
+        assertEquals("first\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void syncPendingWrites_onExitPolicy_success() throws Exception {
+        FileUtil.setFsyncPolicy(FsyncPolicy.ON_EXIT);
+        Path file = testFolder.resolve("data.json");
+        FileUtil.appendToFile(file, "content");
+        Files.delete(file);
+
+        // files that are gone by the time they are synced are skipped
+        FileUtil.syncPendingWrites();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void setFsyncPolicy_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FileUtil.setFsyncPolicy(null));
+    }
+
+    private void assertNoTemporaryFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +40,32 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_streamed_sameAsSerializedObject() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(SERIALIZATION_FILE, true, generator -> generator.writeObject(serializableTestClass));
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+
+        JsonUtil.saveJsonFile(SERIALIZATION_FILE, false, generator -> generator.writeObject(serializableTestClass));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void saveJsonLinesFile_values_oneCompactValuePerLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        String compactJson = JsonUtil.toCompactJsonString(serializableTestClass);
+
+        assertEquals(2, JsonUtil.saveJsonLinesFile(SERIALIZATION_FILE,
+                Stream.of(serializableTestClass, serializableTestClass)));
+        assertEquals(compactJson + "\n" + compactJson + "\n", FileUtil.readFromFile(SERIALIZATION_FILE));
+
+        assertEquals(0, JsonUtil.saveJsonLinesFile(SERIALIZATION_FILE, Stream.empty()));
+        assertEquals("", FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,141 @@
+package seedu.application.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Keyword(null));
+    }
+
+    @Test
+    public void constructor_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, StringUtil.MESSAGE_EMPTY_WORD, () -> new Keyword("  "));
+        assertThrows(IllegalArgumentException.class, StringUtil.MESSAGE_MULTIPLE_WORDS, () -> new Keyword("aaa bbb"));
+    }
+
+    @Test
+    public void constructor_surroundingWhitespace_trimmed() {
+        Keyword keyword = new Keyword(" \t Google \n");
+        assertEquals("Google", keyword.getWord());
+        assertEquals(new Keyword("Google"), keyword);
+        assertEquals(new Keyword("GOOGLE").getKey(), keyword.getKey());
+    }
+
+    @Test
+    public void equals() {
+        Keyword keyword = new Keyword("Google");
+
+        // same word ignoring case -> returns true
+        assertEquals(new Keyword("gOOGLE"), keyword);
+        assertEquals(new Keyword("gOOGLE").hashCode(), keyword.hashCode());
+
+        // different word -> returns false
+        assertNotEquals(new Keyword("Googol"), keyword);
+
+        // different match type -> returns false
+        assertNotEquals(new Keyword("Google*"), keyword);
+        assertNotEquals(new Keyword("Google~"), keyword);
+    }
+
+    @Test
+    public void isWordIn() {
+        Keyword keyword = new Keyword("bbB");
+
+        // matches first, middle and last words, ignoring case
+        assertTrue(keyword.isWordIn("bbb ccc"));
+        assertTrue(keyword.isWordIn("aaa\tBBB\nccc"));
+        assertTrue(keyword.isWordIn("  aaa  bBb"));
+
+        // partial words and empty sentences do not match
+        assertFalse(keyword.isWordIn("aaa bbbb"));
+        assertFalse(keyword.isWordIn("bb"));
+        assertFalse(keyword.isWordIn(""));
+        assertFalse(keyword.isWordIn("   "));
+    }
+
+    @Test
+    public void constructor_markerOnly_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, StringUtil.MESSAGE_EMPTY_WORD, () -> new Keyword("*"));
+        assertThrows(IllegalArgumentException.class, StringUtil.MESSAGE_EMPTY_WORD, () -> new Keyword(" ~ "));
+    }
+
+    @Test
+    public void constructor_marker_matchTypeSetAndMarkerRemoved() {
+        Keyword prefix = new Keyword("Goo*");
+        assertEquals(Keyword.MatchType.PREFIX, prefix.getMatchType());
+        assertEquals("Goo", prefix.getWord());
+        assertEquals("Goo*", prefix.toString());
+
+        Keyword fuzzy = new Keyword("Gogle~");
+        assertEquals(Keyword.MatchType.FUZZY, fuzzy.getMatchType());
+        assertEquals("Gogle", fuzzy.getWord());
+
+        assertEquals(Keyword.MatchType.EXACT, new Keyword("Google").getMatchType());
+        assertNotEquals(new Keyword("Goo"), prefix);
+        assertNotEquals(new Keyword("Goo~"), prefix);
+    }
+
+    @Test
+    public void getMaxEdits() {
+        assertEquals(0, new Keyword("engineer").getMaxEdits());
+        assertEquals(0, new Keyword("engineer*").getMaxEdits());
+        assertEquals(0, new Keyword("ai~").getMaxEdits());
+        assertEquals(1, new Keyword("grab~").getMaxEdits());
+        assertEquals(1, new Keyword("gogle~").getMaxEdits());
+        assertEquals(2, new Keyword("enginer~").getMaxEdits());
+    }
+
+    @Test
+    public void isWordIn_prefixKeyword() {
+        Keyword keyword = new Keyword("soft*");
+
+        assertTrue(keyword.isWordIn("Software Engineer"));
+        assertTrue(keyword.isWordIn("Senior SOFT"));
+        assertFalse(keyword.isWordIn("Microsoft"));
+        assertFalse(keyword.isWordIn("sof"));
+        assertFalse(keyword.isWordIn(""));
+    }
+
+    @Test
+    public void isWordIn_fuzzyKeyword() {
+        Keyword keyword = new Keyword("Enginer~");
+
+        assertTrue(keyword.isWordIn("Software Engineer")); // one insertion
+        assertTrue(keyword.isWordIn("ENGINEERS")); // two insertions
+        assertTrue(keyword.isWordIn("Enginer"));
+        assertFalse(keyword.isWordIn("Engineering")); // four insertions
+        assertFalse(keyword.isWordIn(""));
+
+        // short keywords must match exactly
+        assertTrue(new Keyword("AI~").isWordIn("ai engineer"));
+        assertFalse(new Keyword("AI~").isWordIn("aim"));
+    }
+
+    @Test
+    public void indexOfWordIn() {
+        String sentence = "eng Engineer  ENGINEERS";
+        assertEquals(4, new Keyword("engineer").indexOfWordIn(sentence, 0));
+        assertEquals(-1, new Keyword("engineer").indexOfWordIn(sentence, 12));
+        assertEquals(0, new Keyword("eng*").indexOfWordIn(sentence, 0));
+        assertEquals(14, new Keyword("eng*").indexOfWordIn(sentence, 12));
+        assertEquals(14, new Keyword("enginer~").indexOfWordIn(sentence, 12));
+        assertEquals(-1, new Keyword("software").indexOfWordIn(sentence, 0));
+    }
+
+    @Test
+    public void getMatchEnd() {
+        String sentence = "Software Engineer";
+        assertEquals(17, new Keyword("engineer").getMatchEnd(sentence, 9));
+        assertEquals(12, new Keyword("eng*").getMatchEnd(sentence, 9));
+        assertEquals(8, new Keyword("sofware~").getMatchEnd(sentence, 0));
+    }
+
+}
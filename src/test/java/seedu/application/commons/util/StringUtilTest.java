@@ -1,6 +1,8 @@
 package seedu.application.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.application.testutil.Assert.assertThrows;
 
@@ -46,6 +48,21 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for toCaseInsensitiveKey --------------------------------------
+
+    @Test
+    public void toCaseInsensitiveKey() {
+        // words equal ignoring case -> same key
+        assertEquals(StringUtil.toCaseInsensitiveKey("Google"), StringUtil.toCaseInsensitiveKey("gOOGLE"));
+        assertEquals(StringUtil.toCaseInsensitiveKey("\u0131"), StringUtil.toCaseInsensitiveKey("i")); // dotless i
+
+        // different words -> different keys
+        assertNotEquals(StringUtil.toCaseInsensitiveKey("Google"), StringUtil.toCaseInsensitiveKey("Googl"));
+        assertNotEquals(StringUtil.toCaseInsensitiveKey("\u00df"), StringUtil.toCaseInsensitiveKey("ss")); // sharp s
+
+        assertThrows(NullPointerException.class, () -> StringUtil.toCaseInsensitiveKey(null));
+    }
+
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
     /*
@@ -123,6 +140,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc")); // Boundary case
+        assertEquals(0, StringUtil.getEditDistance("google", "google"));
+        assertEquals(1, StringUtil.getEditDistance("google", "gogle")); // Deletion
+        assertEquals(1, StringUtil.getEditDistance("google", "googles")); // Insertion
+        assertEquals(1, StringUtil.getEditDistance("google", "goggle")); // Substitution
+        assertEquals(2, StringUtil.getEditDistance("bytedance", "bitdance"));
+        assertEquals(1, StringUtil.getEditDistance("Google", "google")); // Case-sensitive
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,8 @@
 package seedu.application.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.application.commons.core.Messages.MESSAGE_INVALID_APPLICATION_DISPLAYED_INDEX;
 import static seedu.application.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.application.logic.commands.CommandTestUtil.COMPANY_DESC_GOOGLE;
@@ -12,6 +14,7 @@ import static seedu.application.testutil.Assert.assertThrows;
 import static seedu.application.testutil.TypicalApplications.GOOGLE;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +34,7 @@ import seedu.application.model.application.Application;
 import seedu.application.storage.JsonApplicationBookStorage;
 import seedu.application.storage.JsonUserPrefsStorage;
 import seedu.application.storage.StorageManager;
+import seedu.application.storage.WriteBehindApplicationBookSaver;
 import seedu.application.testutil.ApplicationBuilder;
 
 public class LogicManagerTest {
@@ -69,6 +73,60 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommandAfterSave_doesNotSave() throws Exception {
+        Path applicationBookFilePath = temporaryFer.resolve("applicationBook.json");
+        String addCommand = AddCommand.COMMAND_WORD + COMPANY_DESC_GOOGLE + CONTACT_DESC_GOOGLE + DATE_DESC_GOOGLE
+                + EMAIL_DESC_GOOGLE + POSITION_DESC_GOOGLE;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(applicationBookFilePath));
+
+        Files.delete(applicationBookFilePath);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(applicationBookFilePath));
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterStartup_doesNotSave() throws Exception {
+        Path applicationBookFilePath = temporaryFer.resolve("applicationBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(applicationBookFilePath));
+    }
+
+    @Test
+    public void execute_saveInterval_savesAfterEveryIntervalCommands() throws Exception {
+        Path applicationBookFilePath = temporaryFer.resolve("applicationBook.json");
+        logic = new LogicManager(model, new StorageManager(new JsonApplicationBookStorage(applicationBookFilePath),
+                new JsonUserPrefsStorage(temporaryFer.resolve("userPrefs.json"))), 2);
+        String addCommand = AddCommand.COMMAND_WORD + COMPANY_DESC_GOOGLE + CONTACT_DESC_GOOGLE + DATE_DESC_GOOGLE
+                + EMAIL_DESC_GOOGLE + POSITION_DESC_GOOGLE;
+        logic.execute(addCommand);
+        assertFalse(Files.exists(applicationBookFilePath));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(applicationBookFilePath));
+    }
+
+    @Test
+    public void flushApplicationBook_noSaveInterval_savesOnlyWhenFlushed() throws Exception {
+        Path applicationBookFilePath = temporaryFer.resolve("applicationBook.json");
+        logic = new LogicManager(model, new StorageManager(new JsonApplicationBookStorage(applicationBookFilePath),
+                new JsonUserPrefsStorage(temporaryFer.resolve("userPrefs.json"))), 0);
+        String addCommand = AddCommand.COMMAND_WORD + COMPANY_DESC_GOOGLE + CONTACT_DESC_GOOGLE + DATE_DESC_GOOGLE
+                + EMAIL_DESC_GOOGLE + POSITION_DESC_GOOGLE;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(applicationBookFilePath));
+
+        logic.flushApplicationBook();
+        assertTrue(Files.exists(applicationBookFilePath));
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LogicManager(model, null, -1));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonApplicationBookIoExceptionThrowingStub
@@ -89,6 +147,44 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_writeBehindSaverStorageThrowsIoException_throwsOnFlush() throws Exception {
+        JsonApplicationBookStorage applicationBookStorage =
+                new JsonApplicationBookIoExceptionThrowingStub(temporaryFer.resolve("ioExceptionApplicationBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFer.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(applicationBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage, new WriteBehindApplicationBookSaver(storage, 0));
+
+        // the command itself succeeds as the save happens in the background
+        String addCommand = AddCommand.COMMAND_WORD + COMPANY_DESC_GOOGLE + CONTACT_DESC_GOOGLE + DATE_DESC_GOOGLE
+                + EMAIL_DESC_GOOGLE + POSITION_DESC_GOOGLE;
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addApplication(new ApplicationBuilder(GOOGLE).build());
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, GOOGLE), expectedModel);
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.flushApplicationBook());
+    }
+
+    @Test
+    public void execute_writeBehindSaverFailed_throwsCommandExceptionAndRequestsSaveAgain() throws Exception {
+        JsonApplicationBookStorage applicationBookStorage =
+                new JsonApplicationBookStorage(temporaryFer.resolve("applicationBook.json"));
+        StorageManager storage = new StorageManager(applicationBookStorage,
+                new JsonUserPrefsStorage(temporaryFer.resolve("userPrefs.json")));
+        WriteFailureReportingSaverStub writeBehindSaver = new WriteFailureReportingSaverStub(storage);
+        logic = new LogicManager(model, storage, writeBehindSaver);
+
+        // the failure of the earlier write is reported even though the command does not change the model
+        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandFailure(ListCommand.COMMAND_WORD, CommandException.class, expectedMessage, model);
+        assertEquals(1, writeBehindSaver.requestCount);
+
+        // the failure is reported once, and the application book is not requested again once it has been
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(1, writeBehindSaver.requestCount);
+    }
+
     @Test
     public void getFilteredApplicationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredApplicationList().remove(0));
@@ -147,6 +243,31 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub that reports a failed background write once, and counts the number of saves requested from it.
+     */
+    private static class WriteFailureReportingSaverStub extends WriteBehindApplicationBookSaver {
+        private boolean hasFailed = true;
+        private int requestCount;
+
+        private WriteFailureReportingSaverStub(StorageManager storage) {
+            super(storage, 0);
+        }
+
+        @Override
+        public void requestSave(ReadOnlyApplicationBook applicationBook) {
+            requestCount++;
+        }
+
+        @Override
+        public void checkWriteFailure() throws IOException {
+            if (hasFailed) {
+                hasFailed = false;
+                throw DUMMY_IO_EXCEPTION;
+            }
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -9,6 +9,8 @@ import static seedu.application.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,9 @@ import seedu.application.model.Model;
 import seedu.application.model.ReadOnlyApplicationBook;
 import seedu.application.model.ReadOnlyUserPrefs;
 import seedu.application.model.application.Application;
+import seedu.application.model.query.Highlights;
+import seedu.application.model.query.Query;
+import seedu.application.model.query.QueryResult;
 import seedu.application.testutil.ApplicationBuilder;
 
 public class AddCommandTest {
@@ -114,6 +119,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addApplications(List<Application> applications) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setApplicationBook(ReadOnlyApplicationBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -139,6 +149,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public QueryResult findApplications(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Application> getFilteredApplicationList() {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +163,16 @@ public class AddCommandTest {
         public void updateFilteredApplicationList(Predicate<Application> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Highlights getHighlights(Application application) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredApplicationList(Comparator<Application> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
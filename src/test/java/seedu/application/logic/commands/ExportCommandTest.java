@@ -0,0 +1,155 @@
+package seedu.application.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.logic.commands.CommandTestUtil.showApplicationAtIndex;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+import static seedu.application.testutil.TypicalIndexes.INDEX_FIRST_APPLICATION;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.logic.commands.exceptions.CommandException;
+import seedu.application.model.Model;
+import seedu.application.model.ModelManager;
+import seedu.application.model.UserPrefs;
+import seedu.application.model.application.Application;
+import seedu.application.model.query.DateQuery;
+import seedu.application.storage.ApplicationExporter.Format;
+import seedu.application.storage.ApplicationImporter;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) and unit tests for ExportCommand.
+ */
+public class ExportCommandTest {
+
+    /** Number of nanoseconds that every export takes by {@link #nanoClock}. */
+    private static final long EXPORT_NANOS = 2_000_000_000L;
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private LongSupplier nanoClock;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        long[] nanos = {0};
+        nanoClock = () -> {
+            long now = nanos[0];
+            nanos[0] += EXPORT_NANOS;
+            return now;
+        };
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, Format.CSV));
+    }
+
+    @Test
+    public void execute_listIsNotFiltered_exportsAllApplications() throws Exception {
+        Path filePath = testFolder.resolve("applications.csv");
+        CommandResult result = new ExportCommand(filePath, Format.CSV, null, nanoClock).execute(model);
+
+        assertEquals(getExpectedMessage(3, filePath), result.getFeedbackToUser());
+        assertEquals(model.getFilteredApplicationList(), readExported(filePath));
+    }
+
+    @Test
+    public void execute_listIsFiltered_exportsListedApplications() throws Exception {
+        showApplicationAtIndex(model, INDEX_FIRST_APPLICATION);
+        Path filePath = testFolder.resolve("applications.csv");
+        CommandResult result = new ExportCommand(filePath, Format.CSV, null, nanoClock).execute(model);
+
+        assertEquals(getExpectedMessage(1, filePath), result.getFeedbackToUser());
+        assertEquals(model.getFilteredApplicationList(), readExported(filePath));
+    }
+
+    @Test
+    public void execute_listIsSorted_exportsInListedOrder() throws Exception {
+        model.sortFilteredApplicationList((first, second) -> first.getDate().value.compareTo(second.getDate().value));
+        Path filePath = testFolder.resolve("applications.csv");
+        new ExportCommand(filePath, Format.CSV, null, nanoClock).execute(model);
+
+        assertEquals(Arrays.asList(JANE_STREET, BYTEDANCE, SHOPEE), readExported(filePath));
+    }
+
+    @Test
+    public void execute_query_exportsMatchesWithoutChangingList() throws Exception {
+        showApplicationAtIndex(model, INDEX_FIRST_APPLICATION);
+        List<Application> listedApplications = Arrays.asList(model.getFilteredApplicationList()
+                .toArray(new Application[0]));
+        // BYTEDANCE on 2022-08-01 and SHOPEE on 2022-12-31
+        DateQuery query = new DateQuery(LocalDate.of(2022, 8, 1), null);
+        Path filePath = testFolder.resolve("applications.ndjson");
+        CommandResult result = new ExportCommand(filePath, Format.NDJSON, query, nanoClock).execute(model);
+
+        assertEquals(getExpectedMessage(2, filePath), result.getFeedbackToUser());
+        assertEquals(2, Files.readAllLines(filePath).size());
+        assertEquals(listedApplications, model.getFilteredApplicationList());
+    }
+
+    @Test
+    public void execute_fileIsNonEmptyFolder_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("applications.csv");
+        Files.createDirectories(filePath.resolve("child"));
+        assertThrows(CommandException.class, () -> new ExportCommand(filePath, Format.CSV).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCsvCommand = new ExportCommand(Paths.get("applications.csv"), Format.CSV);
+        ExportCommand exportQueryCommand = new ExportCommand(Paths.get("applications.csv"), Format.CSV,
+                new DateQuery(LocalDate.of(2022, 8, 1), null));
+
+        // same object -> returns true
+        assertTrue(exportCsvCommand.equals(exportCsvCommand));
+
+        // same values -> returns true
+        assertTrue(exportCsvCommand.equals(new ExportCommand(Paths.get("applications.csv"), Format.CSV)));
+        assertTrue(exportQueryCommand.equals(new ExportCommand(Paths.get("applications.csv"), Format.CSV,
+                new DateQuery(LocalDate.of(2022, 8, 1), null))));
+
+        // different types -> returns false
+        assertFalse(exportCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCsvCommand.equals(new ExportCommand(Paths.get("other.csv"), Format.CSV)));
+
+        // different query -> returns false
+        assertFalse(exportCsvCommand.equals(exportQueryCommand));
+    }
+
+    private static String getExpectedMessage(long applicationCount, Path filePath) {
+        double seconds = EXPORT_NANOS / 1e9;
+        return String.format(ExportCommand.MESSAGE_SUCCESS, applicationCount, filePath, seconds,
+                applicationCount / seconds);
+    }
+
+    private static List<Application> readExported(Path filePath) throws Exception {
+        ApplicationImporter.Result result = ApplicationImporter.read(filePath, ApplicationImporter.Format.CSV);
+        assertEquals(Collections.emptyList(), result.getErrors());
+        return result.getApplications();
+    }
+
+}
@@ -15,11 +15,17 @@ import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.application.commons.util.Keyword;
+import seedu.application.logic.parser.QueryParser;
 import seedu.application.model.Model;
 import seedu.application.model.ModelManager;
 import seedu.application.model.UserPrefs;
 import seedu.application.model.application.CompanyContainsKeywordsPredicate;
 import seedu.application.model.application.PositionContainsKeywordsPredicate;
+import seedu.application.model.query.KeywordQuery;
+import seedu.application.model.query.OrQuery;
+import seedu.application.model.query.Query;
+import seedu.application.model.query.QueryResult;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -58,6 +64,11 @@ public class FindCommandTest {
 
         // different application -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // same query, explained -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(new OrQuery(Arrays.asList(
+                new KeywordQuery(KeywordQuery.Field.COMPANY, new Keyword("first")),
+                new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword("first")))), true)));
     }
 
     @Test
@@ -82,6 +93,28 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET), model.getFilteredApplicationList());
     }
 
+    @Test
+    public void execute_prefixAndFuzzyKeywords_multipleApplicationsFound() {
+        String expectedMessage = String.format(MESSAGE_APPLICATION_LISTED_OVERVIEW, 2);
+        CompanyContainsKeywordsPredicate companyPredicate = prepareCompanyPredicate("Shop* Bytedanse~");
+        PositionContainsKeywordsPredicate positionPredicate = preparePositionPredicate("Shop* Bytedanse~");
+        FindCommand command = new FindCommand(companyPredicate, positionPredicate);
+        expectedModel.updateFilteredApplicationList(companyPredicate.or(positionPredicate));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(SHOPEE, BYTEDANCE), model.getFilteredApplicationList());
+    }
+
+    @Test
+    public void execute_explainedQuery_planShown() throws Exception {
+        Query query = new QueryParser().parse("p/engineer AND c/shopee");
+        QueryResult result = query.execute(getTypicalApplicationBook());
+        String expectedMessage = String.format(MESSAGE_APPLICATION_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(FindCommand.MESSAGE_PLAN, result.getPlan());
+        expectedModel.updateFilteredApplicationList(query);
+        assertCommandSuccess(new FindCommand(query, true), model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(SHOPEE), model.getFilteredApplicationList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code CompanyContainsKeywordsPredicate}.
      */
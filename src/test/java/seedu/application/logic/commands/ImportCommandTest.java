@@ -0,0 +1,157 @@
+package seedu.application.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.application.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.commons.util.FileUtil;
+import seedu.application.model.Model;
+import seedu.application.model.ModelManager;
+import seedu.application.model.UserPrefs;
+import seedu.application.model.application.Company;
+import seedu.application.storage.ApplicationImporter;
+import seedu.application.storage.ApplicationImporter.Format;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    private static final String CSV_HEADER = "company,contact,email,position,date\n";
+    private static final String CSV_GOOGLE = "Google,11111111,google@example.com,Software Engineer,2022-01-01\n";
+    private static final String CSV_FACEBOOK = "Facebook,22222222,facebook@example.com,Backend Engineer,2024-02-29\n";
+    private static final String CSV_SHOPEE = "Shopee,94201239,shopee@example.com,Frontend Engineer,2022-12-31\n";
+    private static final String CSV_INVALID = "Go@gle,11111111,google@example.com,Software Engineer,2022-01-01\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getApplicationBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null, Format.CSV));
+    }
+
+    @Test
+    public void execute_newApplications_addsApplications() throws Exception {
+        Path filePath = writeFile("applications.csv", CSV_HEADER + CSV_GOOGLE + CSV_FACEBOOK);
+        expectedModel.addApplications(Arrays.asList(GOOGLE, FACEBOOK));
+
+        assertCommandSuccess(new ImportCommand(filePath, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_duplicateApplications_skipsDuplicates() throws Exception {
+        // SHOPEE is already in the application book, and GOOGLE appears twice in the file
+        Path filePath = writeFile("applications.csv", CSV_HEADER + CSV_GOOGLE + CSV_SHOPEE + CSV_GOOGLE);
+        expectedModel.addApplication(GOOGLE);
+
+        assertCommandSuccess(new ImportCommand(filePath, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_onlyDuplicateApplications_leavesApplicationBookUnchanged() throws Exception {
+        Path filePath = writeFile("applications.csv", CSV_HEADER + CSV_SHOPEE);
+        long versionBeforeImport = model.getApplicationBook().getVersion();
+
+        assertCommandSuccess(new ImportCommand(filePath, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 0, 1), expectedModel);
+        assertEquals(versionBeforeImport, model.getApplicationBook().getVersion());
+    }
+
+    @Test
+    public void execute_invalidApplication_importsNothing() throws Exception {
+        Path filePath = writeFile("applications.csv", CSV_HEADER + CSV_GOOGLE + CSV_INVALID);
+        String errors = String.format(ApplicationImporter.MESSAGE_INVALID_APPLICATION, 3, Company.MESSAGE_CONSTRAINTS);
+
+        assertCommandFailure(new ImportCommand(filePath, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_APPLICATIONS, 1, filePath, errors));
+        assertFalse(model.hasApplication(GOOGLE));
+    }
+
+    @Test
+    public void execute_manyInvalidApplications_describesFirstFew() throws Exception {
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        StringBuilder errors = new StringBuilder();
+        for (int i = 0; i < ImportCommand.MAX_ERRORS_SHOWN + 2; i++) {
+            csv.append(CSV_INVALID);
+            if (i < ImportCommand.MAX_ERRORS_SHOWN) {
+                errors.append(String.format(ApplicationImporter.MESSAGE_INVALID_APPLICATION, i + 2,
+                        Company.MESSAGE_CONSTRAINTS)).append('\n');
+            }
+        }
+        errors.append(String.format(ImportCommand.MESSAGE_MORE_INVALID_APPLICATIONS, 2));
+        Path filePath = writeFile("applications.csv", csv.toString());
+
+        assertCommandFailure(new ImportCommand(filePath, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_INVALID_APPLICATIONS, ImportCommand.MAX_ERRORS_SHOWN + 2,
+                        filePath, errors));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_FILE_UNREADABLE, filePath));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path filePath = writeFile("applications.csv", "company,contact,email,date\n");
+        assertCommandFailure(new ImportCommand(filePath, Format.CSV), model,
+                String.format(ImportCommand.MESSAGE_FILE_INVALID, filePath,
+                        String.format(ApplicationImporter.MESSAGE_MISSING_COLUMN, "position")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsvCommand = new ImportCommand(Paths.get("applications.csv"), Format.CSV);
+        ImportCommand importJsonCommand = new ImportCommand(Paths.get("applications.json"), Format.JSON);
+
+        // same object -> returns true
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+
+        // same values -> returns true
+        assertTrue(importCsvCommand.equals(new ImportCommand(Paths.get("applications.csv"), Format.CSV)));
+
+        // different types -> returns false
+        assertFalse(importCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsvCommand.equals(importJsonCommand));
+    }
+
+    private Path writeFile(String fileName, String content) throws Exception {
+        Path filePath = testFolder.resolve(fileName);
+        FileUtil.writeToFile(filePath, content);
+        return filePath;
+    }
+
+}
@@ -1,16 +1,24 @@
 package seedu.application.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.application.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.application.logic.commands.CommandTestUtil.showApplicationAtIndex;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
 import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
 import static seedu.application.testutil.TypicalIndexes.INDEX_FIRST_APPLICATION;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.application.model.Model;
 import seedu.application.model.ModelManager;
 import seedu.application.model.UserPrefs;
+import seedu.application.model.query.DateQuery;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -36,4 +44,24 @@ public class ListCommandTest {
         showApplicationAtIndex(model, INDEX_FIRST_APPLICATION);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_dateRange_showsApplicationsInRange() {
+        // BYTEDANCE on 2022-08-01 and SHOPEE on 2022-12-31
+        DateQuery dateQuery = new DateQuery(LocalDate.of(2022, 8, 1), LocalDate.of(2022, 12, 31));
+        expectedModel.updateFilteredApplicationList(dateQuery);
+        assertCommandSuccess(new ListCommand(dateQuery), model,
+                String.format(ListCommand.MESSAGE_DATE_RANGE_SUCCESS, 2, dateQuery), expectedModel);
+        assertEquals(Arrays.asList(SHOPEE, BYTEDANCE), model.getFilteredApplicationList());
+    }
+
+    @Test
+    public void equals() {
+        DateQuery dateQuery = new DateQuery(null, LocalDate.of(2022, 12, 31));
+
+        assertEquals(new ListCommand(), new ListCommand());
+        assertEquals(new ListCommand(dateQuery), new ListCommand(new DateQuery(null, LocalDate.of(2022, 12, 31))));
+        assertNotEquals(new ListCommand(), new ListCommand(dateQuery));
+        assertNotEquals(new ListCommand(dateQuery), new ListCommand(new DateQuery(null, LocalDate.of(2022, 12, 30))));
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.application.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.model.Model;
+import seedu.application.model.ModelManager;
+import seedu.application.model.UserPrefs;
+import seedu.application.model.application.ApplicationComparator;
+import seedu.application.model.application.ApplicationComparator.Field;
+import seedu.application.model.application.ApplicationComparator.SortKey;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private static final ApplicationComparator BY_DATE = new ApplicationComparator(
+            Arrays.asList(new SortKey(Field.DATE, false)));
+    private static final ApplicationComparator BY_COMPANY_DESCENDING = new ApplicationComparator(
+            Arrays.asList(new SortKey(Field.COMPANY, true)));
+
+    private Model model = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+
+    @Test
+    public void execute_comparator_sortsList() {
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "date");
+        expectedModel.sortFilteredApplicationList(BY_DATE);
+        assertCommandSuccess(new SortCommand(BY_DATE), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(JANE_STREET, BYTEDANCE, SHOPEE), model.getFilteredApplicationList());
+    }
+
+    @Test
+    public void execute_addedOrder_restoresList() {
+        model.sortFilteredApplicationList(BY_COMPANY_DESCENDING);
+        assertCommandSuccess(new SortCommand(), model, SortCommand.MESSAGE_ADDED_ORDER_SUCCESS, expectedModel);
+        assertEquals(getTypicalApplicationBook().getApplicationList(), model.getFilteredApplicationList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByDateCommand = new SortCommand(BY_DATE);
+
+        // same object -> returns true
+        assertTrue(sortByDateCommand.equals(sortByDateCommand));
+
+        // same values -> returns true
+        assertTrue(sortByDateCommand.equals(new SortCommand(new ApplicationComparator(
+                Arrays.asList(new SortKey(Field.DATE, false))))));
+        assertTrue(new SortCommand().equals(new SortCommand()));
+
+        // different types -> returns false
+        assertFalse(sortByDateCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByDateCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortByDateCommand.equals(new SortCommand(BY_COMPANY_DESCENDING)));
+        assertFalse(sortByDateCommand.equals(new SortCommand()));
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.application.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.application.testutil.Assert.assertThrows;
 import static seedu.application.testutil.TypicalIndexes.INDEX_FIRST_APPLICATION;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
@@ -18,13 +20,22 @@ import seedu.application.logic.commands.DeleteCommand;
 import seedu.application.logic.commands.EditCommand;
 import seedu.application.logic.commands.EditCommand.EditApplicationDescriptor;
 import seedu.application.logic.commands.ExitCommand;
+import seedu.application.logic.commands.ExportCommand;
 import seedu.application.logic.commands.FindCommand;
 import seedu.application.logic.commands.HelpCommand;
+import seedu.application.logic.commands.ImportCommand;
 import seedu.application.logic.commands.ListCommand;
+import seedu.application.logic.commands.SortCommand;
 import seedu.application.logic.parser.exceptions.ParseException;
 import seedu.application.model.application.Application;
+import seedu.application.model.application.ApplicationComparator;
+import seedu.application.model.application.ApplicationComparator.Field;
+import seedu.application.model.application.ApplicationComparator.SortKey;
 import seedu.application.model.application.CompanyContainsKeywordsPredicate;
 import seedu.application.model.application.PositionContainsKeywordsPredicate;
+import seedu.application.model.query.DateQuery;
+import seedu.application.storage.ApplicationExporter;
+import seedu.application.storage.ApplicationImporter.Format;
 import seedu.application.testutil.ApplicationBuilder;
 import seedu.application.testutil.ApplicationUtil;
 import seedu.application.testutil.EditApplicationDescriptorBuilder;
@@ -88,6 +99,27 @@ public class ApplicationBookParserTest {
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(new ListCommand(new DateQuery(LocalDate.of(2023, 1, 1), null)),
+                parser.parseCommand(ListCommand.COMMAND_WORD + " d/>=2023-01-01"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("applications.ndjson"), ApplicationExporter.Format.NDJSON),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " applications.ndjson"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("applications.csv"), Format.CSV),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " applications.csv"));
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(), parser.parseCommand(SortCommand.COMMAND_WORD + " " + SortCommand.ADDED_ORDER));
+        assertEquals(new SortCommand(new ApplicationComparator(Arrays.asList(new SortKey(Field.DATE, true)))),
+                parser.parseCommand(SortCommand.COMMAND_WORD + " -date"));
     }
 
     @Test
@@ -0,0 +1,50 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.logic.commands.ExportCommand;
+import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.storage.ApplicationExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_fileOnly_returnsExportCommand() {
+        assertParseSuccess(parser, " applications.csv ", new ExportCommand(Paths.get("applications.csv"), Format.CSV));
+        assertParseSuccess(parser, "data/applications.NDJSON",
+                new ExportCommand(Paths.get("data/applications.NDJSON"), Format.NDJSON));
+    }
+
+    @Test
+    public void parse_fileAndQuery_returnsExportCommandWithQuery() throws ParseException {
+        String query = "c/google AND NOT p/intern";
+        assertParseSuccess(parser, "applications.csv  " + query,
+                new ExportCommand(Paths.get("applications.csv"), Format.CSV, new QueryParser().parse(query)));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "applications.json c/google",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "applications.csv c/google AND",
+                QueryParser.MESSAGE_UNEXPECTED_END);
+    }
+
+}
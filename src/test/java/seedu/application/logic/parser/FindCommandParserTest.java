@@ -32,6 +32,34 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Software \n \t Engineer  \t", expectedFindCommand);
+
+        // prefix and fuzzy keywords
+        expectedFindCommand = new FindCommand(
+                new CompanyContainsKeywordsPredicate(Arrays.asList("Soft*", "Enginer~")),
+                new PositionContainsKeywordsPredicate(Arrays.asList("Soft*", "Enginer~")));
+        assertParseSuccess(parser, "Soft* Enginer~", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_query_returnsFindCommand() throws Exception {
+        String query = "c/google AND p/engineer NOT e/*@spam.com";
+        assertParseSuccess(parser, query, new FindCommand(new QueryParser().parse(query), false));
+        assertParseSuccess(parser, " EXPLAIN  " + query, new FindCommand(new QueryParser().parse(query), true));
+
+        // explaining plain keywords
+        assertParseSuccess(parser, "EXPLAIN google", new FindCommand(new QueryParser().parse("google"), true));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "EXPLAIN", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "c/google AND", QueryParser.MESSAGE_UNEXPECTED_END);
+    }
+
+    @Test
+    public void parse_markerWithoutWord_throwsParseException() {
+        assertParseFailure(parser, "google *",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
 }
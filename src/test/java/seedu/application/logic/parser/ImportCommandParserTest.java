@@ -0,0 +1,36 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.logic.commands.ImportCommand;
+import seedu.application.storage.ApplicationImporter.Format;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " applications.csv ", new ImportCommand(Paths.get("applications.csv"), Format.CSV));
+        assertParseSuccess(parser, " data/my applications.JSON",
+                new ImportCommand(Paths.get("data/my applications.JSON"), Format.JSON));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "applications.txt",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+}
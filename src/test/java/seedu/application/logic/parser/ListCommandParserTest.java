@@ -0,0 +1,39 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.logic.commands.ListCommand;
+import seedu.application.model.query.DateQuery;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noDateRange_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+
+        // extraneous parameters are ignored
+        assertParseSuccess(parser, " 3", new ListCommand());
+    }
+
+    @Test
+    public void parse_dateRange_returnsListCommand() {
+        assertParseSuccess(parser, " d/2023-01-01..2023-03-31", new ListCommand(
+                new DateQuery(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 3, 31))));
+        assertParseSuccess(parser, " d/<2023-01-01", new ListCommand(
+                new DateQuery(null, LocalDate.of(2022, 12, 31))));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " d/2023-01-01..2023-02-30", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " d/", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+    }
+
+}
@@ -5,14 +5,20 @@ import static seedu.application.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.application.testutil.Assert.assertThrows;
 import static seedu.application.testutil.TypicalIndexes.INDEX_FIRST_APPLICATION;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.model.application.ApplicationComparator;
+import seedu.application.model.application.ApplicationComparator.Field;
+import seedu.application.model.application.ApplicationComparator.SortKey;
 import seedu.application.model.application.Company;
 import seedu.application.model.application.Contact;
 import seedu.application.model.application.Date;
 import seedu.application.model.application.Email;
 import seedu.application.model.application.Position;
+import seedu.application.model.query.DateQuery;
 
 public class ParserUtilTest {
     private static final String INVALID_COMPANY = "G@@gle";
@@ -26,6 +32,7 @@ public class ParserUtilTest {
     private static final String VALID_DATE = "2022-01-01";
     private static final String VALID_EMAIL = "google@example.com";
     private static final String VALID_POSITION = "Software Engineer";
+    private static final LocalDate TODAY = LocalDate.of(2023, 3, 10);
 
     private static final String WHITESPACE = " \t\r\n";
 
@@ -118,6 +125,25 @@ public class ParserUtilTest {
         assertEquals(expectedDate, ParserUtil.parseDate(dateWithWhitespace));
     }
 
+    @Test
+    public void parseSortKey_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseSortKey(null));
+    }
+
+    @Test
+    public void parseSortKey_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ApplicationComparator.MESSAGE_CONSTRAINTS, () ->
+                ParserUtil.parseSortKey("contact"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseSortKey("-"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseSortKey("--date"));
+    }
+
+    @Test
+    public void parseSortKey_validValue_returnsSortKey() throws Exception {
+        assertEquals(new SortKey(Field.DATE, false), ParserUtil.parseSortKey(WHITESPACE + "date" + WHITESPACE));
+        assertEquals(new SortKey(Field.COMPANY, true), ParserUtil.parseSortKey("-Company"));
+    }
+
     @Test
     public void parseEmail_validValueWithoutWhitespace_returnsEmail() throws Exception {
         Email expectedEmail = new Email(VALID_EMAIL);
@@ -153,4 +179,37 @@ public class ParserUtilTest {
         Position expectedPosition = new Position(VALID_POSITION);
         assertEquals(expectedPosition, ParserUtil.parsePosition(tagWithWhitespace));
     }
+
+    @Test
+    public void parseDateRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseDateRange(null, TODAY));
+    }
+
+    @Test
+    public void parseDateRange_validValue_returnsDateQuery() throws Exception {
+        LocalDate date = LocalDate.of(2023, 1, 1);
+        assertEquals(new DateQuery(date, date), ParserUtil.parseDateRange(" 2023-01-01 ", TODAY));
+        assertEquals(new DateQuery(date.plusDays(1), null), ParserUtil.parseDateRange(">2023-01-01", TODAY));
+        assertEquals(new DateQuery(date, null), ParserUtil.parseDateRange(">=2023-01-01", TODAY));
+        assertEquals(new DateQuery(null, date.minusDays(1)), ParserUtil.parseDateRange("<2023-01-01", TODAY));
+        assertEquals(new DateQuery(null, date), ParserUtil.parseDateRange("<=2023-01-01", TODAY));
+
+        // between, with either end open
+        assertEquals(new DateQuery(date, TODAY), ParserUtil.parseDateRange("2023-01-01..2023-03-10", TODAY));
+        assertEquals(new DateQuery(date, null), ParserUtil.parseDateRange("2023-01-01..", TODAY));
+        assertEquals(new DateQuery(null, date), ParserUtil.parseDateRange("..2023-01-01", TODAY));
+
+        // last days, up to and including today
+        assertEquals(new DateQuery(TODAY, TODAY), ParserUtil.parseDateRange("last1", TODAY));
+        assertEquals(new DateQuery(LocalDate.of(2023, 2, 9), TODAY), ParserUtil.parseDateRange("last30", TODAY));
+    }
+
+    @Test
+    public void parseDateRange_invalidValue_throwsParseException() {
+        for (String range : new String[] {"", "..", "2023-01-01...", "2023-02-30", ">", "last", "last0", "last-1",
+                "2023-01-01..2023-13-01", "=2023-01-01"}) {
+            assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE_RANGE, () ->
+                    ParserUtil.parseDateRange(range, TODAY));
+        }
+    }
 }
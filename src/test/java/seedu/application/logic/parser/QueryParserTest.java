@@ -0,0 +1,117 @@
+package seedu.application.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.commons.util.Keyword;
+import seedu.application.logic.parser.exceptions.ParseException;
+import seedu.application.model.query.AndQuery;
+import seedu.application.model.query.DateQuery;
+import seedu.application.model.query.EmailQuery;
+import seedu.application.model.query.KeywordQuery;
+import seedu.application.model.query.NotQuery;
+import seedu.application.model.query.OrQuery;
+import seedu.application.model.query.Query;
+
+public class QueryParserTest {
+
+    private final QueryParser parser = new QueryParser();
+
+    private static Query company(String keyword) {
+        return new KeywordQuery(KeywordQuery.Field.COMPANY, new Keyword(keyword));
+    }
+
+    private static Query position(String keyword) {
+        return new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword(keyword));
+    }
+
+    @Test
+    public void isQuery() {
+        assertFalse(QueryParser.isQuery("google engineer*"));
+        assertFalse(QueryParser.isQuery("and or not"));
+        assertTrue(QueryParser.isQuery("google OR grab"));
+        assertTrue(QueryParser.isQuery("p/engineer"));
+        assertTrue(QueryParser.isQuery("(google)"));
+    }
+
+    @Test
+    public void parse_fieldTerms_success() throws Exception {
+        assertEquals(company("google"), parser.parse("c/google"));
+        assertEquals(position("eng*"), parser.parse("p/eng*"));
+        assertEquals(EmailQuery.ofDomain("spam.com"), parser.parse("e/*@spam.com"));
+        assertEquals(EmailQuery.ofAddress("hr@google.com"), parser.parse("e/hr@google.com"));
+        assertEquals(new DateQuery(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 1)), parser.parse("d/2023-01-01"));
+        assertEquals(new DateQuery(LocalDate.of(2023, 1, 2), null), parser.parse("d/>2023-01-01"));
+        assertEquals(new DateQuery(LocalDate.of(2023, 1, 1), null), parser.parse("d/>=2023-01-01"));
+        assertEquals(new DateQuery(null, LocalDate.of(2022, 12, 31)), parser.parse("d/<2023-01-01"));
+        assertEquals(new DateQuery(null, LocalDate.of(2023, 1, 1)), parser.parse("d/<=2023-01-01"));
+        assertEquals(new OrQuery(Arrays.asList(company("google"), position("google"))), parser.parse("google"));
+    }
+
+    @Test
+    public void parse_relativeDateRange_countedFromClock() throws Exception {
+        QueryParser fixedDateParser = new QueryParser(Clock.fixed(Instant.parse("2023-03-10T12:00:00Z"),
+                ZoneOffset.UTC));
+        assertEquals(new AndQuery(Arrays.asList(position("engineer"),
+                new DateQuery(LocalDate.of(2023, 3, 4), LocalDate.of(2023, 3, 10)))),
+                fixedDateParser.parse("p/engineer AND d/last7"));
+    }
+
+    @Test
+    public void parse_operators_precedenceRespected() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(new OrQuery(Arrays.asList(company("a"), new AndQuery(Arrays.asList(
+                company("b"), new NotQuery(company("c")))))),
+                parser.parse("c/a OR c/b AND NOT c/c"));
+
+        // A NOT B is A AND NOT B, and adjacent terms are combined with OR
+        assertEquals(new AndQuery(Arrays.asList(company("google"), position("engineer"),
+                new DateQuery(LocalDate.of(2023, 1, 2), null), new NotQuery(EmailQuery.ofDomain("spam.com")))),
+                parser.parse("c/google AND p/engineer AND d/>2023-01-01 NOT e/*@spam.com"));
+        assertEquals(new OrQuery(Arrays.asList(company("a"), company("b"))), parser.parse("c/a c/b"));
+
+        // parentheses group
+        assertEquals(new AndQuery(Arrays.asList(new OrQuery(Arrays.asList(company("a"), company("b"))),
+                position("c"))), parser.parse("(c/a OR c/b) AND p/c"));
+        assertEquals(new NotQuery(new OrQuery(Arrays.asList(company("a"), company("b")))),
+                parser.parse("NOT(c/a c/b)"));
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> parser.parse("c/a AND"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNEXPECTED_END, () -> parser.parse("NOT"));
+        assertThrows(ParseException.class, QueryParser.MESSAGE_UNCLOSED_PARENTHESIS, () -> parser.parse("(c/a"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), () ->
+                parser.parse("c/a)"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, "OR"), () ->
+                parser.parse("OR c/a"));
+    }
+
+    @Test
+    public void parse_invalidTerms_throwsParseException() {
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_KEYWORD, "c/"), () ->
+                parser.parse("c/"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_KEYWORD, "p/*"), () ->
+                parser.parse("p/*"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_EMAIL, "e/*@"), () ->
+                parser.parse("e/*@"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_EMAIL, "e/spam"), () ->
+                parser.parse("e/spam"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_DATE, "d/>2023-02-30")
+                + "\n" + ParserUtil.MESSAGE_INVALID_DATE_RANGE, () -> parser.parse("d/>2023-02-30"));
+        assertThrows(ParseException.class, String.format(QueryParser.MESSAGE_INVALID_DATE, "d/=2023-01-01")
+                + "\n" + ParserUtil.MESSAGE_INVALID_DATE_RANGE, () -> parser.parse("d/=2023-01-01"));
+    }
+
+}
@@ -0,0 +1,54 @@
+package seedu.application.logic.parser;
+
+import static seedu.application.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.application.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.logic.commands.SortCommand;
+import seedu.application.model.application.ApplicationComparator;
+import seedu.application.model.application.ApplicationComparator.Field;
+import seedu.application.model.application.ApplicationComparator.SortKey;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_addedOrder_returnsSortCommand() {
+        assertParseSuccess(parser, " added ", new SortCommand());
+        assertParseSuccess(parser, " ADDED", new SortCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        ApplicationComparator comparator = new ApplicationComparator(Arrays.asList(
+                new SortKey(Field.DATE, true), new SortKey(Field.COMPANY, false)));
+        assertParseSuccess(parser, " -date company", new SortCommand(comparator));
+
+        // multiple whitespaces between keys
+        assertParseSuccess(parser, " \n -date \t company  \t", new SortCommand(comparator));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // unknown field
+        assertParseFailure(parser, " date contact", ApplicationComparator.MESSAGE_CONSTRAINTS);
+
+        // repeated field
+        assertParseFailure(parser, " date -date", ApplicationComparator.MESSAGE_CONSTRAINTS);
+
+        // added order mixed with fields
+        assertParseFailure(parser, " added date", ApplicationComparator.MESSAGE_CONSTRAINTS);
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.application.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.application.logic.commands.CommandTestUtil.VALID_COMPANY_FACEBOOK;
 import static seedu.application.logic.commands.CommandTestUtil.VALID_DATE_FACEBOOK;
@@ -9,17 +10,27 @@ import static seedu.application.logic.commands.CommandTestUtil.VALID_EMAIL_GOOGL
 import static seedu.application.logic.commands.CommandTestUtil.VALID_POSITION_GOOGLE;
 import static seedu.application.testutil.Assert.assertThrows;
 import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
 import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.application.commons.util.Keyword;
 import seedu.application.model.application.Application;
 import seedu.application.model.application.exceptions.DuplicateApplicationException;
 import seedu.application.testutil.ApplicationBuilder;
@@ -96,6 +107,93 @@ public class ApplicationBookTest {
         assertFalse(applicationBook.hasApplication(editedBytedance));
     }
 
+    @Test
+    public void addApplications_uniqueApplications_addsApplicationsInOneChange() {
+        applicationBook.addApplication(BYTEDANCE);
+        long versionBeforeAdd = applicationBook.getVersion();
+        List<ListChangeListener.Change<? extends Application>> changes = new ArrayList<>();
+        ListChangeListener<Application> listener = changes::add;
+        applicationBook.getApplicationList().addListener(listener);
+
+        applicationBook.addApplications(Arrays.asList(GOOGLE, FACEBOOK));
+        assertEquals(Arrays.asList(BYTEDANCE, GOOGLE, FACEBOOK), applicationBook.getApplicationList());
+        assertTrue(applicationBook.hasApplication(GOOGLE));
+        assertEquals(1, changes.size());
+        assertNotEquals(versionBeforeAdd, applicationBook.getVersion());
+    }
+
+    @Test
+    public void addApplications_duplicateApplication_throwsDuplicateApplicationException() {
+        applicationBook.addApplication(BYTEDANCE);
+        assertThrows(DuplicateApplicationException.class, ()
+                -> applicationBook.addApplications(Arrays.asList(GOOGLE, BYTEDANCE)));
+        assertEquals(Collections.singletonList(BYTEDANCE), applicationBook.getApplicationList());
+    }
+
+    @Test
+    public void getVersion_afterEachChange_versionChanges() {
+        long initialVersion = applicationBook.getVersion();
+        applicationBook.addApplication(BYTEDANCE);
+        long versionAfterAdd = applicationBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        Application editedBytedance = new ApplicationBuilder(BYTEDANCE).withEmail(VALID_EMAIL_GOOGLE).build();
+        applicationBook.setApplication(BYTEDANCE, editedBytedance);
+        long versionAfterSet = applicationBook.getVersion();
+        assertNotEquals(versionAfterAdd, versionAfterSet);
+
+        applicationBook.removeApplication(editedBytedance);
+        long versionAfterRemove = applicationBook.getVersion();
+        assertNotEquals(versionAfterSet, versionAfterRemove);
+
+        applicationBook.resetData(getTypicalApplicationBook());
+        assertNotEquals(versionAfterRemove, applicationBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_failedChange_versionUnchanged() {
+        applicationBook.addApplication(BYTEDANCE);
+        long version = applicationBook.getVersion();
+        assertThrows(DuplicateApplicationException.class, () -> applicationBook.addApplication(BYTEDANCE));
+        assertEquals(version, applicationBook.getVersion());
+    }
+
+    @Test
+    public void findBy_afterEachChange_indexesUpToDate() {
+        applicationBook.resetData(getTypicalApplicationBook());
+        assertEquals(Collections.singleton(BYTEDANCE), applicationBook.findByCompany(new Keyword("bytedance")));
+        assertEquals(Collections.singleton(SHOPEE), applicationBook.findByPosition(new Keyword("FRONTEND")));
+
+        Application editedBytedance = new ApplicationBuilder(BYTEDANCE).withPosition("Data Scientist")
+                .withEmail("hr@bytedance.com").withDate("2023-02-01").build();
+        applicationBook.setApplication(BYTEDANCE, editedBytedance);
+        applicationBook.removeApplication(SHOPEE);
+        assertEquals(Collections.emptySet(), applicationBook.findByPosition(new Keyword("backend")));
+        assertEquals(Collections.emptySet(), applicationBook.findByPosition(new Keyword("frontend")));
+        assertEquals(Collections.singleton(editedBytedance), applicationBook.findByPosition(new Keyword("scientist")));
+        assertEquals(Collections.singleton(editedBytedance), applicationBook.findByEmailDomain("ByteDance.com"));
+        assertEquals(Collections.singleton(editedBytedance), applicationBook.findByDate(
+                LocalDate.of(2023, 2, 1), LocalDate.of(2023, 2, 1)));
+
+        applicationBook.addApplication(SHOPEE);
+        assertEquals(Collections.singleton(SHOPEE), applicationBook.findByCompany(new Keyword("shopee")));
+        assertEquals(1, applicationBook.countByCompany(new Keyword("shopee")));
+    }
+
+    @Test
+    public void findByDate_range_applicationsInRangeFound() {
+        applicationBook.resetData(getTypicalApplicationBook());
+        Set<Application> expected = applicationBook.getApplicationList().stream()
+                .filter(application -> !application.getDate().value.isBefore(LocalDate.of(2022, 9, 1)))
+                .collect(Collectors.toSet());
+
+        assertEquals(expected, applicationBook.findByDate(LocalDate.of(2022, 9, 1), null));
+        assertEquals(expected.size(), applicationBook.countByDate(LocalDate.of(2022, 9, 1), null));
+        assertEquals(new HashSet<>(applicationBook.getApplicationList()), applicationBook.findByDate(null, null));
+        assertEquals(Collections.emptySet(), applicationBook.findByDate(LocalDate.of(2022, 9, 1),
+                LocalDate.of(2022, 8, 1)));
+    }
+
     @Test
     public void getApplicationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> applicationBook.getApplicationList().remove(0));
@@ -115,6 +213,11 @@ public class ApplicationBookTest {
         public ObservableList<Application> getApplicationList() {
             return applications;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
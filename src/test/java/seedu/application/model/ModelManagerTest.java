@@ -2,11 +2,15 @@ package seedu.application.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.application.model.Model.PREDICATE_SHOW_ALL_APPLICATIONS;
 import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
 import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
 import static seedu.application.testutil.TypicalApplications.SHOPEE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -17,9 +21,14 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.application.commons.core.GuiSettings;
+import seedu.application.commons.util.Keyword;
+import seedu.application.model.application.Application;
 import seedu.application.model.application.CompanyContainsKeywordsPredicate;
 import seedu.application.model.application.PositionContainsKeywordsPredicate;
+import seedu.application.model.query.Highlights;
+import seedu.application.model.query.KeywordQuery;
 import seedu.application.testutil.ApplicationBookBuilder;
+import seedu.application.testutil.ApplicationBuilder;
 
 public class ModelManagerTest {
 
@@ -32,6 +41,27 @@ public class ModelManagerTest {
         assertEquals(new ApplicationBook(), new ApplicationBook(modelManager.getApplicationBook()));
     }
 
+    @Test
+    public void constructor_applicationBook_copiesApplicationBook() {
+        ApplicationBook applicationBook = getTypicalApplicationBook();
+        modelManager = new ModelManager(applicationBook, new UserPrefs());
+        applicationBook.addApplication(GOOGLE);
+        assertFalse(modelManager.hasApplication(GOOGLE));
+    }
+
+    @Test
+    public void adopting_nullApplicationBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ModelManager.adopting(null, new UserPrefs()));
+    }
+
+    @Test
+    public void adopting_applicationBook_usesApplicationBook() {
+        ApplicationBook applicationBook = getTypicalApplicationBook();
+        modelManager = ModelManager.adopting(applicationBook, new UserPrefs());
+        assertSame(applicationBook, modelManager.getApplicationBook());
+        assertEquals(applicationBook.getApplicationList(), modelManager.getFilteredApplicationList());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -91,6 +121,73 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasApplication(FACEBOOK));
     }
 
+    @Test
+    public void addApplication_matchesFilter_keepsFilter() {
+        modelManager = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        modelManager.findApplications(new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword("Backend")));
+        modelManager.addApplication(FACEBOOK);
+        assertEquals(Arrays.asList(BYTEDANCE, FACEBOOK), modelManager.getFilteredApplicationList());
+    }
+
+    @Test
+    public void addApplication_doesNotMatchFilter_showsAllApplications() {
+        modelManager = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        modelManager.findApplications(new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword("Backend")));
+        modelManager.addApplication(GOOGLE);
+        assertEquals(modelManager.getApplicationBook().getApplicationList(),
+                modelManager.getFilteredApplicationList());
+    }
+
+    @Test
+    public void addApplications_allMatchFilter_keepsFilter() {
+        modelManager = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        modelManager.findApplications(new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword("Backend")));
+        Application otherBackend = new ApplicationBuilder(GOOGLE).withPosition("Backend Engineer").build();
+        modelManager.addApplications(Arrays.asList(FACEBOOK, otherBackend));
+        assertEquals(Arrays.asList(BYTEDANCE, FACEBOOK, otherBackend), modelManager.getFilteredApplicationList());
+    }
+
+    @Test
+    public void addApplications_someDoNotMatchFilter_showsAllApplications() {
+        modelManager = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        modelManager.findApplications(new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword("Backend")));
+        modelManager.addApplications(Arrays.asList(FACEBOOK, GOOGLE));
+        assertEquals(modelManager.getApplicationBook().getApplicationList(),
+                modelManager.getFilteredApplicationList());
+    }
+
+    @Test
+    public void setApplication_afterFind_filtersEditedApplication() {
+        modelManager = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        modelManager.findApplications(new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword("Backend")));
+
+        // edited into a match -> shown
+        Application editedShopee = new ApplicationBuilder(SHOPEE).withPosition("Backend Engineer").build();
+        modelManager.setApplication(SHOPEE, editedShopee);
+        assertEquals(Arrays.asList(editedShopee, BYTEDANCE), modelManager.getFilteredApplicationList());
+
+        // edited out of a match -> hidden
+        Application editedByteDance = new ApplicationBuilder(BYTEDANCE).withPosition("Frontend Engineer").build();
+        modelManager.setApplication(BYTEDANCE, editedByteDance);
+        assertEquals(Arrays.asList(editedShopee), modelManager.getFilteredApplicationList());
+    }
+
+    @Test
+    public void getHighlights() {
+        modelManager = new ModelManager(getTypicalApplicationBook(), new UserPrefs());
+        assertEquals(Highlights.NONE, modelManager.getHighlights(BYTEDANCE));
+
+        // filtered by a query -> parts matched by the query, worked out once
+        modelManager.findApplications(new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword("Backend")));
+        Highlights highlights = modelManager.getHighlights(BYTEDANCE);
+        assertEquals(Arrays.asList(new Highlights.Span(0, 7)), highlights.getSpans(Highlights.Field.POSITION));
+        assertSame(highlights, modelManager.getHighlights(BYTEDANCE));
+
+        // filtered by a predicate -> nothing
+        modelManager.updateFilteredApplicationList(PREDICATE_SHOW_ALL_APPLICATIONS);
+        assertEquals(Highlights.NONE, modelManager.getHighlights(BYTEDANCE));
+    }
+
     @Test
     public void getFilteredApplicationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredApplicationList()
@@ -0,0 +1,130 @@
+package seedu.application.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.ApplicationComparator;
+import seedu.application.model.application.ApplicationComparator.Field;
+import seedu.application.model.application.ApplicationComparator.SortKey;
+
+public class SortedApplicationListTest {
+
+    private static final ApplicationComparator BY_DATE = new ApplicationComparator(
+            Arrays.asList(new SortKey(Field.DATE, false)));
+
+    private final ObservableList<Application> source = FXCollections.observableArrayList(
+            SHOPEE, BYTEDANCE, JANE_STREET);
+    private final SortedApplicationList sortedApplications = new SortedApplicationList(source);
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        sortedApplications.addListener((ListChangeListener<Application>) c -> {
+            while (c.next()) {
+                changes.add(c.wasPermutated() ? "permutated"
+                        : c.wasReplaced() ? "replaced " + c.getFrom()
+                        : c.wasAdded() ? "added " + c.getFrom() + " to " + c.getTo()
+                        : "removed " + c.getFrom());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_followsSourceOrder() {
+        assertEquals(source, sortedApplications);
+    }
+
+    @Test
+    public void setComparator_sortsList() {
+        sortedApplications.setComparator(BY_DATE);
+        assertEquals(Arrays.asList(JANE_STREET, BYTEDANCE, SHOPEE), sortedApplications);
+        assertEquals(Arrays.asList("permutated"), changes);
+
+        // null comparator -> source order
+        sortedApplications.setComparator(null);
+        assertEquals(source, sortedApplications);
+    }
+
+    @Test
+    public void sourceChanged_sortedManyAdded_mergesAddedApplications() {
+        sortedApplications.setComparator(BY_DATE);
+        changes.clear();
+
+        source.addAll(FACEBOOK, GOOGLE);
+        assertEquals(Arrays.asList(GOOGLE, JANE_STREET, BYTEDANCE, SHOPEE, FACEBOOK), sortedApplications);
+        assertEquals(Arrays.asList("added 0 to 1", "added 4 to 5"), changes);
+    }
+
+    @Test
+    public void sourceChanged_sorted_positionsChangedApplicationsOnly() {
+        sortedApplications.setComparator(BY_DATE);
+        changes.clear();
+
+        // GOOGLE ties with JANE_STREET on date and is ordered before it by company
+        source.add(GOOGLE);
+        assertEquals(Arrays.asList(GOOGLE, JANE_STREET, BYTEDANCE, SHOPEE), sortedApplications);
+
+        source.add(0, FACEBOOK);
+        assertEquals(Arrays.asList(GOOGLE, JANE_STREET, BYTEDANCE, SHOPEE, FACEBOOK), sortedApplications);
+
+        source.remove(BYTEDANCE);
+        assertEquals(Arrays.asList(GOOGLE, JANE_STREET, SHOPEE, FACEBOOK), sortedApplications);
+
+        // replaced in the source -> moved to its new position in the view
+        source.set(source.indexOf(FACEBOOK), BYTEDANCE);
+        assertEquals(Arrays.asList(GOOGLE, JANE_STREET, BYTEDANCE, SHOPEE), sortedApplications);
+
+        assertEquals(Arrays.asList("added 0 to 1", "added 4 to 5", "removed 2", "added 2 to 3", "removed 4"),
+                changes);
+    }
+
+    @Test
+    public void sourceChanged_sortedAndEverythingReplaced_sortsAfresh() {
+        sortedApplications.setComparator(BY_DATE);
+        changes.clear();
+
+        source.setAll(FACEBOOK, GOOGLE);
+        assertEquals(Arrays.asList(GOOGLE, FACEBOOK), sortedApplications);
+        assertEquals(Arrays.asList("replaced 0"), changes);
+
+        source.clear();
+        assertTrue(sortedApplications.isEmpty());
+        source.addAll(SHOPEE, JANE_STREET);
+        assertEquals(Arrays.asList(JANE_STREET, SHOPEE), sortedApplications);
+    }
+
+    @Test
+    public void sourceChanged_unsorted_followsSource() {
+        source.add(1, GOOGLE);
+        source.remove(SHOPEE);
+        source.set(0, FACEBOOK);
+        assertEquals(source, sortedApplications);
+        assertEquals(Arrays.asList("added 1 to 2", "removed 0", "replaced 0"), changes);
+    }
+
+    @Test
+    public void getSourceIndexAndViewIndex() {
+        sortedApplications.setComparator(BY_DATE);
+        assertEquals(source.indexOf(JANE_STREET), sortedApplications.getSourceIndex(0));
+        assertEquals(0, sortedApplications.getViewIndex(source.indexOf(JANE_STREET)));
+        assertFalse(sortedApplications.getViewIndex(source.indexOf(SHOPEE)) == 0);
+    }
+
+}
@@ -0,0 +1,104 @@
+package seedu.application.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.model.application.ApplicationComparator.Field;
+import seedu.application.model.application.ApplicationComparator.SortKey;
+import seedu.application.testutil.ApplicationBuilder;
+
+public class ApplicationComparatorTest {
+
+    private static final SortKey COMPANY = new SortKey(Field.COMPANY, false);
+    private static final SortKey POSITION = new SortKey(Field.POSITION, false);
+    private static final SortKey DATE = new SortKey(Field.DATE, false);
+    private static final SortKey DATE_DESCENDING = new SortKey(Field.DATE, true);
+
+    private static List<Application> sort(ApplicationComparator comparator, Application... applications) {
+        List<Application> sorted = new ArrayList<>(Arrays.asList(applications));
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    @Test
+    public void constructor_invalidSortKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ApplicationComparator.MESSAGE_CONSTRAINTS, () ->
+                new ApplicationComparator(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, ApplicationComparator.MESSAGE_CONSTRAINTS, () ->
+                new ApplicationComparator(Arrays.asList(DATE, DATE_DESCENDING)));
+    }
+
+    @Test
+    public void fromName() {
+        assertEquals(Field.COMPANY, Field.fromName("company").get());
+        assertEquals(Field.POSITION, Field.fromName("POSITION").get());
+        assertFalse(Field.fromName("contact").isPresent());
+        assertFalse(Field.fromName("").isPresent());
+    }
+
+    @Test
+    public void compare_singleKey() {
+        // company, ignoring case
+        Application lowerCaseShopee = new ApplicationBuilder(SHOPEE).withCompany("aaa").build();
+        assertEquals(Arrays.asList(lowerCaseShopee, BYTEDANCE, JANE_STREET),
+                sort(new ApplicationComparator(Arrays.asList(COMPANY)), JANE_STREET, lowerCaseShopee, BYTEDANCE));
+
+        // date, ascending and descending
+        assertEquals(Arrays.asList(JANE_STREET, BYTEDANCE, SHOPEE),
+                sort(new ApplicationComparator(Arrays.asList(DATE)), SHOPEE, JANE_STREET, BYTEDANCE));
+        assertEquals(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET),
+                sort(new ApplicationComparator(Arrays.asList(DATE_DESCENDING)), JANE_STREET, SHOPEE, BYTEDANCE));
+    }
+
+    @Test
+    public void compare_secondaryKey_ordersTies() {
+        // JANE_STREET and GOOGLE are both Software Engineers applied on 2022-01-01
+        ApplicationComparator byPositionThenDate = new ApplicationComparator(Arrays.asList(POSITION, DATE_DESCENDING));
+        assertEquals(Arrays.asList(BYTEDANCE, SHOPEE, GOOGLE, JANE_STREET),
+                sort(byPositionThenDate, JANE_STREET, GOOGLE, SHOPEE, BYTEDANCE));
+
+        // ties on every key are broken by the other fields, so only equal applications compare as equal
+        ApplicationComparator byDate = new ApplicationComparator(Arrays.asList(DATE));
+        assertTrue(byDate.compare(GOOGLE, JANE_STREET) < 0);
+        assertTrue(byDate.compare(JANE_STREET, GOOGLE) > 0);
+        assertEquals(0, byDate.compare(GOOGLE, new ApplicationBuilder(GOOGLE).build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("date descending, company",
+                new ApplicationComparator(Arrays.asList(DATE_DESCENDING, COMPANY)).toString());
+    }
+
+    @Test
+    public void equals() {
+        ApplicationComparator comparator = new ApplicationComparator(Arrays.asList(DATE, COMPANY));
+
+        // same values -> returns true
+        assertTrue(comparator.equals(new ApplicationComparator(Arrays.asList(DATE, COMPANY))));
+
+        // same object -> returns true
+        assertTrue(comparator.equals(comparator));
+
+        // null -> returns false
+        assertFalse(comparator.equals(null));
+
+        // different keys -> returns false
+        assertFalse(comparator.equals(new ApplicationComparator(Arrays.asList(COMPANY, DATE))));
+        assertFalse(comparator.equals(new ApplicationComparator(Arrays.asList(DATE_DESCENDING, COMPANY))));
+    }
+
+}
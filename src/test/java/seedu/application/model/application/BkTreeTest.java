@@ -0,0 +1,54 @@
+package seedu.application.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.application.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        tree.add("google");
+        tree.add("google");
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_nothingFound() {
+        assertEquals(Collections.emptyList(), tree.search("google", 2));
+    }
+
+    @Test
+    public void search_wordsWithinDistance_found() {
+        for (String word : Arrays.asList("google", "goggle", "gogle", "shopee", "grab", "garb", "bytedance")) {
+            tree.add(word);
+        }
+
+        assertEquals(Collections.singletonList("google"), tree.search("google", 0));
+        assertEquals(new HashSet<>(Arrays.asList("google", "goggle", "gogle")),
+                new HashSet<>(tree.search("gogle", 1)));
+        assertEquals(new HashSet<>(Arrays.asList("grab", "garb")), new HashSet<>(tree.search("grab", 2)));
+        assertEquals(Collections.emptyList(), tree.search("facebook", 2));
+    }
+
+    @Test
+    public void clear_nonEmptyTree_nothingFound() {
+        tree.add("google");
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(Collections.emptyList(), tree.search("google", 2));
+    }
+
+}
@@ -0,0 +1,109 @@
+package seedu.application.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.commons.util.Keyword;
+
+public class KeywordIndexTest {
+
+    private final KeywordIndex positionIndex = new KeywordIndex(application -> application.getPosition().value);
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> positionIndex.add(null));
+    }
+
+    @Test
+    public void find_wholeWordIgnoringCase_applicationsFound() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET));
+
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET)),
+                positionIndex.find(new Keyword("ENGINEER")));
+        assertEquals(Collections.singleton(BYTEDANCE), positionIndex.find(new Keyword("backend")));
+
+        // partial word -> not found
+        assertEquals(Collections.emptySet(), positionIndex.find(new Keyword("Engine")));
+    }
+
+    @Test
+    public void remove_lastApplicationOfWord_wordNotFound() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE));
+        positionIndex.remove(BYTEDANCE);
+
+        assertEquals(Collections.emptySet(), positionIndex.find(new Keyword("Backend")));
+        assertEquals(Collections.singleton(SHOPEE), positionIndex.find(new Keyword("Engineer")));
+    }
+
+    @Test
+    public void find_applicationRemovedAfterFind_foundApplicationsUnchanged() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE));
+        Set<Application> matches = positionIndex.find(new Keyword("Engineer"));
+        positionIndex.remove(BYTEDANCE);
+
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE)), matches);
+    }
+
+    @Test
+    public void findAny_multipleKeywords_unionFound() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET));
+
+        Set<Application> matches = new HashSet<>();
+        positionIndex.findAny(Arrays.asList(new Keyword("frontend"), new Keyword("backend"), new Keyword("unknown")),
+                matches);
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE)), matches);
+    }
+
+    @Test
+    public void find_prefixKeyword_applicationsFound() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET));
+
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET)),
+                positionIndex.find(new Keyword("ENG*")));
+        assertEquals(Collections.singleton(SHOPEE), positionIndex.find(new Keyword("front*")));
+        assertEquals(Collections.singleton(JANE_STREET), positionIndex.find(new Keyword("Software*")));
+        assertEquals(Collections.emptySet(), positionIndex.find(new Keyword("Engineers*")));
+    }
+
+    @Test
+    public void find_fuzzyKeyword_applicationsFound() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET));
+
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET)),
+                positionIndex.find(new Keyword("Enginer~")));
+        assertEquals(Collections.singleton(BYTEDANCE), positionIndex.find(new Keyword("backnd~")));
+        assertEquals(Collections.emptySet(), positionIndex.find(new Keyword("bckwrd~")));
+    }
+
+    @Test
+    public void find_fuzzyKeywordAfterRemovals_onlyRemainingApplicationsFound() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET));
+        positionIndex.remove(SHOPEE);
+        positionIndex.remove(BYTEDANCE);
+
+        assertEquals(Collections.emptySet(), positionIndex.find(new Keyword("frontnd~")));
+        assertEquals(Collections.singleton(JANE_STREET), positionIndex.find(new Keyword("Enginer~")));
+
+        positionIndex.add(BYTEDANCE);
+        assertEquals(Collections.singleton(BYTEDANCE), positionIndex.find(new Keyword("backnd~")));
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_nothingFound() {
+        positionIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE));
+        positionIndex.clear();
+
+        assertEquals(Collections.emptySet(), positionIndex.find(new Keyword("Engineer")));
+    }
+
+}
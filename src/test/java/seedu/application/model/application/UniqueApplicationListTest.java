@@ -7,14 +7,19 @@ import static seedu.application.logic.commands.CommandTestUtil.VALID_CONTACT_FAC
 import static seedu.application.logic.commands.CommandTestUtil.VALID_EMAIL_GOOGLE;
 import static seedu.application.testutil.Assert.assertThrows;
 import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
 import static seedu.application.testutil.TypicalApplications.GOOGLE;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.application.model.application.exceptions.ApplicationNotFoundException;
 import seedu.application.model.application.exceptions.DuplicateApplicationException;
 import seedu.application.testutil.ApplicationBuilder;
@@ -58,6 +63,37 @@ public class UniqueApplicationListTest {
         assertThrows(DuplicateApplicationException.class, () -> uniqueApplicationList.add(BYTEDANCE));
     }
 
+    @Test
+    public void addAll_uniqueApplications_addsApplicationsInOneChange() {
+        uniqueApplicationList.add(BYTEDANCE);
+        List<ListChangeListener.Change<? extends Application>> changes = new ArrayList<>();
+        ListChangeListener<Application> listener = changes::add;
+        uniqueApplicationList.asUnmodifiableObservableList().addListener(listener);
+
+        uniqueApplicationList.addAll(Arrays.asList(GOOGLE, FACEBOOK));
+        assertEquals(Arrays.asList(BYTEDANCE, GOOGLE, FACEBOOK), uniqueApplicationList.asUnmodifiableObservableList());
+        assertTrue(uniqueApplicationList.contains(FACEBOOK));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void addAll_applicationInList_throwsDuplicateApplicationExceptionAndAddsNothing() {
+        uniqueApplicationList.add(BYTEDANCE);
+        Application editedBytedance = new ApplicationBuilder(BYTEDANCE).withEmail(VALID_EMAIL_GOOGLE).build();
+        DuplicateApplicationException exception = assertThrows(DuplicateApplicationException.class, ()
+                -> uniqueApplicationList.addAll(Arrays.asList(GOOGLE, editedBytedance)));
+        assertEquals(Collections.singletonList(new AbstractMap.SimpleImmutableEntry<>(BYTEDANCE, editedBytedance)),
+                exception.getDuplicatePairs());
+        assertFalse(uniqueApplicationList.contains(GOOGLE));
+    }
+
+    @Test
+    public void addAll_repeatedApplication_throwsDuplicateApplicationException() {
+        assertThrows(DuplicateApplicationException.class, ()
+                -> uniqueApplicationList.addAll(Arrays.asList(GOOGLE, BYTEDANCE, GOOGLE)));
+        assertFalse(uniqueApplicationList.contains(GOOGLE));
+    }
+
     @Test
     public void setApplication_nullTargetApplication_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueApplicationList.setApplication(null, BYTEDANCE));
@@ -130,6 +166,31 @@ public class UniqueApplicationListTest {
         assertEquals(expectedUniqueApplicationList, uniqueApplicationList);
     }
 
+    @Test
+    public void remove_applicationWithSameIdentityButDifferentFields_throwsApplicationNotFoundException() {
+        uniqueApplicationList.add(BYTEDANCE);
+        Application editedBytedance = new ApplicationBuilder(BYTEDANCE).withEmail(VALID_EMAIL_GOOGLE).build();
+        assertThrows(ApplicationNotFoundException.class, () -> uniqueApplicationList.remove(editedBytedance));
+        assertTrue(uniqueApplicationList.contains(BYTEDANCE));
+    }
+
+    @Test
+    public void remove_existingApplication_identityCanBeAddedAgain() {
+        uniqueApplicationList.add(BYTEDANCE);
+        uniqueApplicationList.remove(BYTEDANCE);
+        assertFalse(uniqueApplicationList.contains(BYTEDANCE));
+        uniqueApplicationList.add(BYTEDANCE);
+        assertTrue(uniqueApplicationList.contains(BYTEDANCE));
+    }
+
+    @Test
+    public void setApplication_editedApplicationHasDifferentIdentity_releasesOldIdentity() {
+        uniqueApplicationList.add(BYTEDANCE);
+        uniqueApplicationList.setApplication(BYTEDANCE, GOOGLE);
+        assertFalse(uniqueApplicationList.contains(BYTEDANCE));
+        assertTrue(uniqueApplicationList.contains(GOOGLE));
+    }
+
     @Test
     public void setApplications_nullUniqueApplicationList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, ()
@@ -158,6 +219,7 @@ public class UniqueApplicationListTest {
         UniqueApplicationList expectedUniqueApplicationList = new UniqueApplicationList();
         expectedUniqueApplicationList.add(GOOGLE);
         assertEquals(expectedUniqueApplicationList, uniqueApplicationList);
+        assertFalse(uniqueApplicationList.contains(BYTEDANCE));
     }
 
     @Test
@@ -167,6 +229,19 @@ public class UniqueApplicationListTest {
                 -> uniqueApplicationList.setApplications(listWithDuplicateApplications));
     }
 
+    @Test
+    public void setApplications_listWithSeveralDuplicates_reportsAllDuplicatePairs() {
+        Application editedGoogle = new ApplicationBuilder(GOOGLE).withContact(VALID_CONTACT_FACEBOOK).build();
+        List<Application> listWithDuplicateApplications = Arrays.asList(BYTEDANCE, GOOGLE, BYTEDANCE, editedGoogle);
+        DuplicateApplicationException thrown = assertThrows(DuplicateApplicationException.class, ()
+                -> uniqueApplicationList.setApplications(listWithDuplicateApplications));
+        List<Map.Entry<Application, Application>> expectedPairs = Arrays.asList(
+                new AbstractMap.SimpleImmutableEntry<>(BYTEDANCE, BYTEDANCE),
+                new AbstractMap.SimpleImmutableEntry<>(GOOGLE, editedGoogle));
+        assertEquals(expectedPairs, thrown.getDuplicatePairs());
+        assertEquals(new UniqueApplicationList(), uniqueApplicationList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,87 @@
+package seedu.application.model.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.testutil.ApplicationBuilder;
+
+public class ValueIndexTest {
+
+    // SHOPEE on 2022-12-31, BYTEDANCE on 2022-08-01 and JANE_STREET on 2022-01-01
+    private final ValueIndex<Long> dateIndex = new ValueIndex<>(application ->
+            application.getDate().value.toEpochDay());
+
+    private long epochDayOf(Application application) {
+        return application.getDate().value.toEpochDay();
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dateIndex.add(null));
+    }
+
+    @Test
+    public void find_value_applicationsFound() {
+        dateIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET));
+
+        assertEquals(Collections.singleton(BYTEDANCE), dateIndex.find(epochDayOf(BYTEDANCE)));
+        assertEquals(Collections.emptySet(), dateIndex.find(epochDayOf(BYTEDANCE) + 1));
+        assertEquals(1, dateIndex.count(epochDayOf(BYTEDANCE)));
+    }
+
+    @Test
+    public void find_applicationAddedAfterFind_foundApplicationsUnchanged() {
+        dateIndex.add(BYTEDANCE);
+        Set<Application> matches = dateIndex.find(epochDayOf(BYTEDANCE));
+        dateIndex.add(new ApplicationBuilder(SHOPEE).withDate(BYTEDANCE.getDate().value.toString()).build());
+
+        assertEquals(Collections.singleton(BYTEDANCE), matches);
+    }
+
+    @Test
+    public void findRange_bounds_applicationsInRangeFound() {
+        dateIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET));
+        long from = epochDayOf(JANE_STREET);
+        long to = epochDayOf(SHOPEE);
+
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET)),
+                dateIndex.findRange(from, true, to, true));
+        assertEquals(Collections.singleton(BYTEDANCE), dateIndex.findRange(from, false, to, false));
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE)), dateIndex.findRange(from, false, null, false));
+        assertEquals(Collections.singleton(JANE_STREET), dateIndex.findRange(null, false, from, true));
+        assertEquals(3, dateIndex.countRange(null, false, null, false));
+
+        // empty and reversed ranges
+        assertEquals(Collections.emptySet(), dateIndex.findRange(from, true, from, false));
+        assertEquals(Collections.emptySet(), dateIndex.findRange(to, true, from, true));
+        assertEquals(0, dateIndex.countRange(to, true, from, true));
+    }
+
+    @Test
+    public void remove_lastApplicationOfValue_valueNotFound() {
+        dateIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE));
+        dateIndex.remove(BYTEDANCE);
+
+        assertEquals(Collections.emptySet(), dateIndex.find(epochDayOf(BYTEDANCE)));
+        assertEquals(Collections.singleton(SHOPEE), dateIndex.findRange(null, true, null, true));
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_nothingFound() {
+        dateIndex.addAll(Arrays.asList(SHOPEE, BYTEDANCE));
+        dateIndex.clear();
+
+        assertEquals(0, dateIndex.countRange(null, true, null, true));
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.application.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.model.query.Highlights.Field;
+import seedu.application.model.query.Highlights.Span;
+
+public class HighlightsTest {
+
+    @Test
+    public void add_invalidSpan_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Highlights().add(Field.COMPANY, -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new Highlights().add(Field.COMPANY, 3, 2));
+    }
+
+    @Test
+    public void add_spans_keptSortedAndMerged() {
+        Highlights highlights = new Highlights();
+        highlights.add(Field.COMPANY, 10, 12);
+        highlights.add(Field.COMPANY, 0, 2);
+        highlights.add(Field.COMPANY, 5, 7);
+        assertEquals(Arrays.asList(new Span(0, 2), new Span(5, 7), new Span(10, 12)),
+                highlights.getSpans(Field.COMPANY));
+
+        // overlapping and adjacent spans -> merged
+        highlights.add(Field.COMPANY, 6, 10);
+        assertEquals(Arrays.asList(new Span(0, 2), new Span(5, 12)), highlights.getSpans(Field.COMPANY));
+        highlights.add(Field.COMPANY, 1, 5);
+        assertEquals(Arrays.asList(new Span(0, 12)), highlights.getSpans(Field.COMPANY));
+
+        // empty span -> ignored
+        highlights.add(Field.EMAIL, 3, 3);
+        assertTrue(highlights.getSpans(Field.EMAIL).isEmpty());
+
+        // other fields -> unaffected
+        assertTrue(highlights.getSpans(Field.POSITION).isEmpty());
+    }
+
+}
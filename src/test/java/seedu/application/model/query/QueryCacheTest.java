@@ -0,0 +1,138 @@
+package seedu.application.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.application.commons.util.Keyword;
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.application.Application;
+import seedu.application.testutil.ApplicationBuilder;
+
+public class QueryCacheTest {
+
+    private static final Query ENGINEER = position("engineer");
+    private static final Query BACKEND = position("backend");
+    private static final Query SHOPEE_COMPANY = new KeywordQuery(KeywordQuery.Field.COMPANY, new Keyword("shopee"));
+
+    private ApplicationBook applicationBook;
+    private QueryCache queryCache;
+
+    @BeforeEach
+    public void setUp() {
+        applicationBook = getTypicalApplicationBook();
+        queryCache = new QueryCache();
+    }
+
+    private static Query position(String keyword) {
+        return new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword(keyword));
+    }
+
+    private void assertCounts(long expectedHits, long expectedMisses, int expectedSize) {
+        assertEquals(expectedHits, queryCache.getHitCount());
+        assertEquals(expectedMisses, queryCache.getMissCount());
+        assertEquals(expectedSize, queryCache.size());
+    }
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, QueryCache.MESSAGE_INVALID_LIMITS, () -> new QueryCache(0, 1));
+        assertThrows(IllegalArgumentException.class, QueryCache.MESSAGE_INVALID_LIMITS, () -> new QueryCache(1, 0));
+    }
+
+    @Test
+    public void execute_sameQuery_servedFromCache() {
+        QueryResult result = queryCache.execute(ENGINEER, applicationBook);
+        assertCounts(0, 1, 1);
+
+        // equal query in a new object -> hit
+        QueryResult cachedResult = queryCache.execute(position("engineer"), applicationBook);
+        assertCounts(1, 1, 1);
+        assertSame(result.getMatches(), cachedResult.getMatches());
+        assertEquals(Collections.singletonList(String.format(QueryCache.MESSAGE_CACHED_STEP, ENGINEER, 3)),
+                cachedResult.getPlan().getSteps());
+
+        // same query in another case -> hit
+        queryCache.execute(position("ENGINEER"), applicationBook);
+        assertCounts(2, 1, 1);
+
+        // different query -> miss
+        queryCache.execute(BACKEND, applicationBook);
+        assertCounts(2, 2, 2);
+    }
+
+    @Test
+    public void execute_applicationBookChanged_resultsDropped() {
+        Application editedShopee = new ApplicationBuilder(SHOPEE).withPosition("Backend Engineer").build();
+        queryCache.execute(BACKEND, applicationBook);
+
+        // add
+        applicationBook.addApplication(FACEBOOK);
+        assertEquals(new HashSet<>(Arrays.asList(BYTEDANCE, FACEBOOK)),
+                queryCache.execute(BACKEND, applicationBook).getMatches());
+        assertCounts(0, 2, 1);
+
+        // edit
+        applicationBook.setApplication(SHOPEE, editedShopee);
+        assertEquals(new HashSet<>(Arrays.asList(editedShopee, BYTEDANCE, FACEBOOK)),
+                queryCache.execute(BACKEND, applicationBook).getMatches());
+
+        // delete
+        applicationBook.removeApplication(FACEBOOK);
+        assertEquals(new HashSet<>(Arrays.asList(editedShopee, BYTEDANCE)),
+                queryCache.execute(BACKEND, applicationBook).getMatches());
+
+        // clear
+        applicationBook.resetData(new ApplicationBook());
+        assertEquals(Collections.emptySet(), queryCache.execute(BACKEND, applicationBook).getMatches());
+        assertCounts(0, 5, 1);
+    }
+
+    @Test
+    public void execute_tooManyResults_evictsLeastRecentlyUsed() {
+        queryCache = new QueryCache(2, 100);
+        queryCache.execute(ENGINEER, applicationBook);
+        queryCache.execute(BACKEND, applicationBook);
+        queryCache.execute(ENGINEER, applicationBook);
+        queryCache.execute(SHOPEE_COMPANY, applicationBook);
+        assertCounts(1, 3, 2);
+
+        // BACKEND was used least recently -> evicted
+        queryCache.execute(ENGINEER, applicationBook);
+        queryCache.execute(BACKEND, applicationBook);
+        assertCounts(2, 4, 2);
+    }
+
+    @Test
+    public void execute_tooManyMatches_evictsLeastRecentlyUsed() {
+        queryCache = new QueryCache(10, 4);
+        queryCache.execute(ENGINEER, applicationBook);
+        queryCache.execute(BACKEND, applicationBook);
+        assertEquals(4, queryCache.getMatchCount());
+
+        // 3 + 1 + 1 matches -> ENGINEER evicted
+        queryCache.execute(SHOPEE_COMPANY, applicationBook);
+        assertEquals(2, queryCache.getMatchCount());
+        assertCounts(0, 3, 2);
+
+        // more matches than the cache can hold -> not cached
+        queryCache = new QueryCache(10, 2);
+        queryCache.execute(ENGINEER, applicationBook);
+        assertCounts(0, 1, 0);
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET)),
+                queryCache.execute(ENGINEER, applicationBook).getMatches());
+    }
+
+}
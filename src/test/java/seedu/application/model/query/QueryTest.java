@@ -0,0 +1,191 @@
+package seedu.application.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.application.commons.util.Keyword;
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.application.Application;
+import seedu.application.testutil.ApplicationBuilder;
+
+public class QueryTest {
+
+    private static final Application SPAM = new ApplicationBuilder().withCompany("Spam Co")
+            .withPosition("Backend Engineer").withEmail("hr@spam.com").withDate("2023-03-01").build();
+
+    private ApplicationBook applicationBook;
+
+    @BeforeEach
+    public void setUp() {
+        applicationBook = getTypicalApplicationBook();
+        applicationBook.addApplication(SPAM);
+    }
+
+    private static Query company(String keyword) {
+        return new KeywordQuery(KeywordQuery.Field.COMPANY, new Keyword(keyword));
+    }
+
+    private static Query position(String keyword) {
+        return new KeywordQuery(KeywordQuery.Field.POSITION, new Keyword(keyword));
+    }
+
+    @Test
+    public void execute_andQuery_startsFromMostSelectiveIndex() {
+        Query query = new AndQuery(Arrays.asList(position("engineer"), company("shopee")));
+        QueryResult result = query.execute(applicationBook);
+
+        assertEquals(Collections.singleton(SHOPEE), result.getMatches());
+        assertEquals(Arrays.asList(
+                String.format(AndQuery.MESSAGE_INTERSECTION_STEP, query, 1, "c/shopee", 1),
+                "  " + String.format(KeywordQuery.MESSAGE_INDEX_STEP, "c/shopee", 1, "company"),
+                "  " + String.format(AndQuery.MESSAGE_ESTIMATED_CHECK_STEP, "p/engineer", 4, 1, 1)),
+                result.getPlan().getSteps());
+    }
+
+    @Test
+    public void execute_andQueryWithNot_notCheckedOnCandidates() {
+        Query notSpam = new NotQuery(EmailQuery.ofDomain("SPAM.com"));
+        Query query = new AndQuery(Arrays.asList(position("backend"), notSpam));
+        QueryResult result = query.execute(applicationBook);
+
+        assertEquals(Collections.singleton(BYTEDANCE), result.getMatches());
+        assertEquals("  " + String.format(AndQuery.MESSAGE_CHECK_STEP, notSpam, 2, 1),
+                result.getPlan().getSteps().get(2));
+    }
+
+    @Test
+    public void execute_notQueryAlone_testsAllApplications() {
+        Query query = new NotQuery(EmailQuery.ofDomain("spam.com"));
+        QueryResult result = query.execute(applicationBook);
+
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE, JANE_STREET)), result.getMatches());
+        assertEquals(Collections.singletonList(String.format(Query.MESSAGE_SCAN_STEP, query, 3, 4)),
+                result.getPlan().getSteps());
+    }
+
+    @Test
+    public void execute_orQuery_unionOfIndexedQueries() {
+        Query query = new OrQuery(Arrays.asList(company("shopee"), new DateQuery(LocalDate.of(2023, 1, 1), null)));
+        QueryResult result = query.execute(applicationBook);
+
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, SPAM)), result.getMatches());
+        assertEquals(3, result.getPlan().getSteps().size());
+    }
+
+    @Test
+    public void execute_orQueryWithNot_testsAllApplications() {
+        Query query = new OrQuery(Arrays.asList(company("shopee"), new NotQuery(position("engineer"))));
+        QueryResult result = query.execute(applicationBook);
+
+        assertEquals(Collections.singleton(SHOPEE), result.getMatches());
+        assertEquals(Collections.singletonList(String.format(Query.MESSAGE_SCAN_STEP, query, 1, 4)),
+                result.getPlan().getSteps());
+    }
+
+    @Test
+    public void execute_emailAddress_checkedAmongDomainCandidates() {
+        QueryResult result = EmailQuery.ofAddress("ByteDance@example.com").execute(applicationBook);
+
+        assertEquals(Collections.singleton(BYTEDANCE), result.getMatches());
+        assertEquals(Collections.singletonList(String.format(EmailQuery.MESSAGE_ADDRESS_STEP,
+                "e/ByteDance@example.com", 3, 1)), result.getPlan().getSteps());
+    }
+
+    @Test
+    public void execute_dateRange_applicationsInRangeFound() {
+        Query query = new DateQuery(LocalDate.of(2022, 8, 1), LocalDate.of(2022, 12, 31));
+        assertEquals(new HashSet<>(Arrays.asList(SHOPEE, BYTEDANCE)), query.execute(applicationBook).getMatches());
+
+        query = new DateQuery(null, LocalDate.of(2022, 7, 31));
+        assertEquals(Collections.singleton(JANE_STREET), query.execute(applicationBook).getMatches());
+    }
+
+    @Test
+    public void execute_sameAsTestingEveryApplication() {
+        Query query = new OrQuery(Arrays.asList(
+                new AndQuery(Arrays.asList(position("eng*"), new NotQuery(EmailQuery.ofDomain("spam.com")))),
+                company("spam~")));
+        HashSet<Application> expected = new HashSet<>();
+        for (Application application : applicationBook.getApplicationList()) {
+            if (query.test(application)) {
+                expected.add(application);
+            }
+        }
+        assertEquals(expected, query.execute(applicationBook).getMatches());
+    }
+
+    @Test
+    public void highlight_keywordQueries_spansOfMatchedWords() {
+        Highlights highlights = new Highlights();
+        highlights.add(Highlights.Field.COMPANY, 0, 4);
+        highlights.add(Highlights.Field.POSITION, 0, 4);
+        assertEquals(highlights, new AndQuery(Arrays.asList(company("spam"), position("back*"))).highlight(SPAM));
+
+        // fuzzy keyword -> whole word
+        highlights = new Highlights();
+        highlights.add(Highlights.Field.POSITION, 8, 16);
+        assertEquals(highlights, position("enginer~").highlight(SPAM));
+    }
+
+    @Test
+    public void highlight_orQuery_onlyMatchingAlternatives() {
+        // SPAM is not a Frontend Engineer, so its company is not highlighted even though it is Spam Co
+        Query query = new OrQuery(Arrays.asList(
+                new AndQuery(Arrays.asList(company("spam"), position("frontend"))), position("backend")));
+        Highlights highlights = new Highlights();
+        highlights.add(Highlights.Field.POSITION, 0, 7);
+        assertEquals(highlights, query.highlight(SPAM));
+    }
+
+    @Test
+    public void highlight_otherQueries() {
+        // email domain -> domain only
+        Highlights highlights = new Highlights();
+        highlights.add(Highlights.Field.EMAIL, 3, 11);
+        assertEquals(highlights, EmailQuery.ofDomain("spam.com").highlight(SPAM));
+
+        // email address -> whole address
+        highlights = new Highlights();
+        highlights.add(Highlights.Field.EMAIL, 0, 11);
+        assertEquals(highlights, EmailQuery.ofAddress("HR@spam.com").highlight(SPAM));
+
+        // negated and date conditions -> nothing
+        assertEquals(new Highlights(), new NotQuery(company("google")).highlight(SPAM));
+        assertEquals(new Highlights(), new DateQuery(LocalDate.of(2023, 3, 1), null).highlight(SPAM));
+    }
+
+    @Test
+    public void toString_normalisedForm() {
+        Query query = new AndQuery(Arrays.asList(company("google"), position("engineer*"),
+                new DateQuery(LocalDate.of(2023, 1, 2), null), new NotQuery(EmailQuery.ofDomain("spam.com"))));
+        assertEquals("(c/google AND p/engineer* AND d/>=2023-01-02 AND NOT e/*@spam.com)", query.toString());
+        assertEquals("(d/<=2023-01-02 OR d/2023-01-02 OR d/2023-01-01..2023-01-02)", new OrQuery(Arrays.asList(
+                new DateQuery(null, LocalDate.of(2023, 1, 2)),
+                new DateQuery(LocalDate.of(2023, 1, 2), LocalDate.of(2023, 1, 2)),
+                new DateQuery(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 2)))).toString());
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(company("google"), company("google"));
+        assertNotEquals(company("google"), position("google"));
+        assertEquals(EmailQuery.ofDomain("Spam.com"), EmailQuery.ofDomain("spam.COM"));
+        assertNotEquals(EmailQuery.ofDomain("spam.com"), EmailQuery.ofAddress("a@spam.com"));
+        assertEquals(new NotQuery(company("a")), new NotQuery(company("a")));
+        assertNotEquals(new AndQuery(Arrays.asList(company("a"), company("b"))),
+                new OrQuery(Arrays.asList(company("a"), company("b"))));
+    }
+
+}
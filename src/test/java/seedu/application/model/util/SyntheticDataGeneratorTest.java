@@ -0,0 +1,97 @@
+package seedu.application.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.application.Application;
+
+public class SyntheticDataGeneratorTest {
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator();
+
+    @Test
+    public void generate_sameSeed_sameApplications() {
+        assertEquals(generator.generate(500), new SyntheticDataGenerator().generate(500));
+    }
+
+    @Test
+    public void generate_differentSeed_differentApplications() {
+        assertNotEquals(generator.generate(500), generator.withSeed(1).generate(500));
+    }
+
+    @Test
+    public void generate_noApplications_returnsEmptyList() {
+        assertTrue(generator.generate(0).isEmpty());
+    }
+
+    @Test
+    public void generate_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1));
+    }
+
+    @Test
+    public void generate_heavilySkewedCompanies_noDuplicateApplications() {
+        // Every company has 48 positions, so the most common companies run out of positions early.
+        List<Application> applications = generator.withApplicationsPerCompany(48).withCompanySkew(3)
+                .withPositionSkew(3).generate(4800);
+        ApplicationBook applicationBook = new ApplicationBook();
+        applicationBook.setApplications(applications);
+        assertEquals(4800, applicationBook.getApplicationList().size());
+    }
+
+    @Test
+    public void generate_applicationsPerCompany_spreadsOverCompanies() {
+        List<Application> applications = generator.withApplicationsPerCompany(10).withCompanySkew(0).generate(1000);
+        Set<String> companies = new HashSet<>();
+        applications.forEach(application -> companies.add(application.getCompany().company));
+        assertEquals(100, generator.withApplicationsPerCompany(10).getCompanyCount(1000));
+        assertTrue(companies.size() <= 100);
+        assertTrue(companies.size() > 50);
+    }
+
+    @Test
+    public void generate_companySkew_mostCommonCompanyIsMoreCommon() {
+        assertTrue(getMostCommonCompanyCount(generator.withCompanySkew(2).generate(2000))
+                > getMostCommonCompanyCount(generator.withCompanySkew(0).generate(2000)));
+    }
+
+    @Test
+    public void generate_dates_withinRange() {
+        LocalDate firstDate = LocalDate.of(2022, 2, 1);
+        LocalDate lastDate = LocalDate.of(2022, 2, 28);
+        for (Application application : generator.withDates(firstDate, lastDate, 1).generate(1000)) {
+            LocalDate date = application.getDate().value;
+            assertTrue(!date.isBefore(firstDate) && !date.isAfter(lastDate));
+        }
+    }
+
+    @Test
+    public void withSettings_invalidSettings_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> generator.withApplicationsPerCompany(0.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.withApplicationsPerCompany(49));
+        assertThrows(IllegalArgumentException.class, () -> generator.withCompanySkew(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withPositionSkew(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withEmailDomainSkew(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                generator.withDates(LocalDate.of(2022, 1, 2), LocalDate.of(2022, 1, 1), 0));
+    }
+
+    private static int getMostCommonCompanyCount(List<Application> applications) {
+        Map<String, Integer> counts = new HashMap<>();
+        applications.forEach(application -> counts.merge(application.getCompany().company, 1, Integer::sum));
+        return counts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+}
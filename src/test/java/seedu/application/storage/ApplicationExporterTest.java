@@ -0,0 +1,92 @@
+package seedu.application.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.commons.util.FileUtil;
+import seedu.application.commons.util.JsonUtil;
+import seedu.application.model.application.Application;
+import seedu.application.model.util.SyntheticDataGenerator;
+import seedu.application.storage.ApplicationExporter.Format;
+
+public class ApplicationExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void formatOf_supportedExtension_returnsFormat() {
+        assertEquals(Optional.of(Format.CSV), Format.of(Paths.get("applications.CSV")));
+        assertEquals(Optional.of(Format.NDJSON), Format.of(Paths.get("data", "applications.ndjson")));
+    }
+
+    @Test
+    public void formatOf_unsupportedExtension_returnsEmpty() {
+        assertFalse(Format.of(Paths.get("applications.json")).isPresent());
+    }
+
+    @Test
+    public void write_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ApplicationExporter.write(Stream.empty(), null, Format.CSV));
+    }
+
+    @Test
+    public void write_csv_writesHeaderAndOneRowPerApplication() throws Exception {
+        Path filePath = testFolder.resolve("applications.csv");
+        assertEquals(2, ApplicationExporter.write(Stream.of(GOOGLE, FACEBOOK), filePath, Format.CSV));
+        assertEquals("company,contact,email,position,date\n"
+                + "Google,11111111,google@example.com,Software Engineer,2022-01-01\n"
+                + "Facebook,22222222,facebook@example.com,Backend Engineer,2024-02-29\n",
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_csvInMissingFolder_createsFolder() throws Exception {
+        Path filePath = testFolder.resolve("exports").resolve("applications.csv");
+        ApplicationExporter.write(Stream.of(GOOGLE), filePath, Format.CSV);
+        assertEquals(Arrays.asList(GOOGLE),
+                ApplicationImporter.read(filePath, ApplicationImporter.Format.CSV).getApplications());
+    }
+
+    @Test
+    public void write_ndjson_writesOneApplicationPerLine() throws Exception {
+        Path filePath = testFolder.resolve("applications.ndjson");
+        assertEquals(2, ApplicationExporter.write(Stream.of(GOOGLE, FACEBOOK), filePath, Format.NDJSON));
+        assertEquals(JsonUtil.toCompactJsonString(new JsonAdaptedApplication(GOOGLE)) + "\n"
+                + JsonUtil.toCompactJsonString(new JsonAdaptedApplication(FACEBOOK)) + "\n",
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_noApplications_writesHeaderOnly() throws Exception {
+        Path filePath = testFolder.resolve("applications.csv");
+        assertEquals(0, ApplicationExporter.write(Stream.empty(), filePath, Format.CSV));
+        assertEquals("company,contact,email,position,date\n", FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void write_manyApplications_canBeImportedAgain() throws Exception {
+        List<Application> applications = new SyntheticDataGenerator().generate(1000);
+        Path filePath = testFolder.resolve("applications.csv");
+        ApplicationExporter.write(applications.stream(), filePath, Format.CSV);
+
+        assertEquals(applications,
+                ApplicationImporter.read(filePath, ApplicationImporter.Format.CSV).getApplications());
+        assertEquals(applications.size() + 1, Files.readAllLines(filePath).size());
+    }
+
+}
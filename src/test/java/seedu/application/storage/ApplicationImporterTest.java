@@ -0,0 +1,156 @@
+package seedu.application.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.storage.ApplicationImporter.MESSAGE_INVALID_APPLICATION;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.commons.util.FileUtil;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.Company;
+import seedu.application.model.application.Date;
+import seedu.application.model.util.SyntheticDataGenerator;
+import seedu.application.storage.ApplicationImporter.Format;
+
+public class ApplicationImporterTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ApplicationImporterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void formatOf_supportedExtension_returnsFormat() {
+        assertEquals(Optional.of(Format.CSV), Format.of(Paths.get("applications.csv")));
+        assertEquals(Optional.of(Format.JSON), Format.of(Paths.get("data", "applications.JSON")));
+    }
+
+    @Test
+    public void formatOf_unsupportedExtension_returnsEmpty() {
+        assertFalse(Format.of(Paths.get("applications.txt")).isPresent());
+        assertFalse(Format.of(Paths.get("csv")).isPresent());
+    }
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ApplicationImporter.read(null, Format.CSV));
+    }
+
+    @Test
+    public void read_missingFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> read("NonExistentFile.csv", Format.CSV));
+        assertThrows(NoSuchFileException.class, () -> read("NonExistentFile.json", Format.JSON));
+    }
+
+    @Test
+    public void read_validCsv_returnsApplicationsInOrder() throws Exception {
+        ApplicationImporter.Result result = read("validApplications.csv", Format.CSV);
+        assertEquals(Arrays.asList(GOOGLE, FACEBOOK), result.getApplications());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void read_csvWithInvalidRows_returnsValidApplicationsAndErrors() throws Exception {
+        ApplicationImporter.Result result = read("invalidApplications.csv", Format.CSV);
+        assertEquals(Arrays.asList(GOOGLE, FACEBOOK), result.getApplications());
+        assertEquals(Arrays.asList(
+                String.format(MESSAGE_INVALID_APPLICATION, 3, Company.MESSAGE_CONSTRAINTS),
+                String.format(MESSAGE_INVALID_APPLICATION, 4,
+                        String.format(ApplicationImporter.MESSAGE_WRONG_COLUMN_COUNT, 5, 3)),
+                String.format(MESSAGE_INVALID_APPLICATION, 5, Company.MESSAGE_CONSTRAINTS)),
+                result.getErrors());
+    }
+
+    @Test
+    public void read_csvMissingColumn_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> read("missingColumnApplications.csv", Format.CSV));
+    }
+
+    @Test
+    public void read_csvWithUnclosedQuote_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> read("unclosedQuoteApplications.csv", Format.CSV));
+    }
+
+    @Test
+    public void read_emptyCsv_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("empty.csv");
+        FileUtil.writeToFile(filePath, "");
+        assertThrows(DataConversionException.class, () -> ApplicationImporter.read(filePath, Format.CSV));
+    }
+
+    @Test
+    public void read_csvWithByteOrderMarkAndCrLf_returnsApplications() throws Exception {
+        Path filePath = testFolder.resolve("spreadsheet.csv");
+        FileUtil.writeToFile(filePath, "\uFEFFcompany,contact,email,position,date\r\n"
+                + "Google,11111111,google@example.com,Software Engineer,2022-01-01\r\n");
+        ApplicationImporter.Result result = ApplicationImporter.read(filePath, Format.CSV);
+        assertEquals(Collections.singletonList(GOOGLE), result.getApplications());
+    }
+
+    @Test
+    public void read_validJsonArray_returnsApplicationsInOrder() throws Exception {
+        ApplicationImporter.Result result = read("validApplications.json", Format.JSON);
+        assertEquals(Arrays.asList(GOOGLE, FACEBOOK), result.getApplications());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void read_savedApplicationBook_returnsApplications() throws Exception {
+        Path filePath = testFolder.resolve("applicationBook.json");
+        new JsonApplicationBookStorage(filePath).saveApplicationBook(getTypicalApplicationBook());
+        ApplicationImporter.Result result = ApplicationImporter.read(filePath, Format.JSON);
+        assertEquals(getTypicalApplicationBook().getApplicationList(), result.getApplications());
+    }
+
+    @Test
+    public void read_jsonWithInvalidApplications_returnsValidApplicationsAndErrors() throws Exception {
+        ApplicationImporter.Result result = read("invalidApplications.json", Format.JSON);
+        assertEquals(Collections.singletonList(GOOGLE), result.getApplications());
+        assertEquals(Arrays.asList(
+                String.format(MESSAGE_INVALID_APPLICATION, 8, Date.MESSAGE_CONSTRAINTS),
+                String.format(MESSAGE_INVALID_APPLICATION, 14, JsonSerializableApplicationBook.MESSAGE_NOT_AN_OBJECT)),
+                result.getErrors());
+    }
+
+    @Test
+    public void read_jsonWithoutApplicationsArray_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> read("notApplicationsArray.json", Format.JSON));
+    }
+
+    @Test
+    public void read_manyApplications_returnsApplicationsInOrder() throws Exception {
+        // enough applications to be validated in parallel
+        List<Application> applications = new SyntheticDataGenerator().generate(
+                ParallelApplicationConverter.PARALLEL_THRESHOLD * 4);
+        StringBuilder csv = new StringBuilder("company,contact,email,position,date\n");
+        for (Application application : applications) {
+            csv.append(String.join(",", application.getCompany().company, application.getContact().value,
+                    application.getEmail().value, application.getPosition().value,
+                    application.getDate().value.toString())).append('\n');
+        }
+        Path filePath = testFolder.resolve("many.csv");
+        FileUtil.writeToFile(filePath, csv.toString());
+
+        assertEquals(applications, ApplicationImporter.read(filePath, Format.CSV).getApplications());
+    }
+
+    private ApplicationImporter.Result read(String fileInTestDataFolder, Format format) throws Exception {
+        return ApplicationImporter.read(TEST_DATA_FOLDER.resolve(fileInTestDataFolder), format);
+    }
+
+}
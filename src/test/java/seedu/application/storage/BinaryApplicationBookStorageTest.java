@@ -0,0 +1,117 @@
+package seedu.application.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.model.ApplicationBook;
+import seedu.application.testutil.ApplicationBuilder;
+
+public class BinaryApplicationBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempApplicationBook.bin");
+    }
+
+    @Test
+    public void readApplicationBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryApplicationBookStorage(filePath)
+                .readApplicationBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryApplicationBookStorage(filePath).readApplicationBook().isPresent());
+    }
+
+    @Test
+    public void saveApplicationBook_nullApplicationBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryApplicationBookStorage(filePath)
+                .saveApplicationBook(null));
+    }
+
+    @Test
+    public void readAndSaveApplicationBook_allInOrder_success() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        BinaryApplicationBookStorage storage = new BinaryApplicationBookStorage(filePath);
+
+        storage.saveApplicationBook(original);
+        assertEquals(original, new ApplicationBook(storage.readApplicationBook().get()));
+
+        original.addApplication(FACEBOOK);
+        original.removeApplication(SHOPEE);
+        original.addApplication(new ApplicationBuilder(GOOGLE).withPosition("Data Scientist").build());
+        storage.saveApplicationBook(original);
+        assertEquals(original, new ApplicationBook(storage.readApplicationBook().get()));
+    }
+
+    @Test
+    public void saveApplicationBook_smallerThanJson() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        Path jsonFilePath = testFolder.resolve("TempApplicationBook.json");
+        new BinaryApplicationBookStorage(filePath).saveApplicationBook(original);
+        new JsonApplicationBookStorage(jsonFilePath).saveApplicationBook(original);
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readApplicationBook_jsonFile_convertedLosslessly() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        new JsonApplicationBookStorage(filePath).saveApplicationBook(original);
+
+        // json to binary
+        BinaryApplicationBookStorage storage = new BinaryApplicationBookStorage(filePath);
+        ApplicationBook readBack = new ApplicationBook(storage.readApplicationBook().get());
+        assertEquals(original, readBack);
+        storage.saveApplicationBook(readBack);
+
+        // binary to json
+        Path jsonFilePath = testFolder.resolve("Converted.json");
+        new JsonApplicationBookStorage(jsonFilePath).saveApplicationBook(storage.readApplicationBook().get());
+        assertEquals(original, new ApplicationBook(new JsonApplicationBookStorage(jsonFilePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void readApplicationBook_truncatedFile_throwsDataConversionException() throws Exception {
+        new BinaryApplicationBookStorage(filePath).saveApplicationBook(getTypicalApplicationBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinaryApplicationBookStorage(filePath)
+                .readApplicationBook());
+    }
+
+    @Test
+    public void readApplicationBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        new BinaryApplicationBookStorage(filePath).saveApplicationBook(getTypicalApplicationBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = (byte) (BinaryApplicationBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryApplicationBookStorage(filePath)
+                .readApplicationBook());
+    }
+
+}
@@ -0,0 +1,249 @@
+package seedu.application.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.application.logic.commands.CommandTestUtil.VALID_CONTACT_FACEBOOK;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.BYTEDANCE;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.JANE_STREET;
+import static seedu.application.testutil.TypicalApplications.SHOPEE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.model.ApplicationBook;
+import seedu.application.testutil.ApplicationBuilder;
+
+public class JournalApplicationBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempApplicationBook.json");
+        journalFilePath = JournalApplicationBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readApplicationBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalApplicationBookStorage(filePath)
+                .readApplicationBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalApplicationBookStorage(filePath).readApplicationBook().isPresent());
+    }
+
+    @Test
+    public void saveApplicationBook_nullApplicationBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalApplicationBookStorage(filePath)
+                .saveApplicationBook(null));
+    }
+
+    @Test
+    public void readAndSaveApplicationBook_changesAppendedToJournal_success() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        storage.saveApplicationBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath, UTF_8).size());
+
+        // add, delete, edit in place and edit with a new identity
+        original.addApplication(GOOGLE);
+        original.removeApplication(SHOPEE);
+        storage.saveApplicationBook(original);
+        original.setApplication(BYTEDANCE, new ApplicationBuilder(BYTEDANCE).withContact(VALID_CONTACT_FACEBOOK)
+                .build());
+        original.setApplication(JANE_STREET, FACEBOOK);
+        storage.saveApplicationBook(original);
+
+        assertEquals(3, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(original, new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void saveApplicationBook_afterRead_appendsToExistingJournal() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        new JournalApplicationBookStorage(filePath).saveApplicationBook(original);
+
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        ApplicationBook readBack = new ApplicationBook(storage.readApplicationBook().get());
+        readBack.addApplication(GOOGLE);
+        storage.saveApplicationBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(readBack, new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void saveApplicationBook_cleared_success() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        storage.saveApplicationBook(original);
+        original.resetData(new ApplicationBook());
+        storage.saveApplicationBook(original);
+
+        assertEquals(new ApplicationBook(), new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void saveApplicationBook_thresholdExceeded_compactsJournal() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath, 1);
+        storage.saveApplicationBook(original);
+        original.addApplication(GOOGLE);
+        storage.saveApplicationBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath, UTF_8).size());
+
+        original.addApplication(FACEBOOK);
+        storage.saveApplicationBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(original, new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void readApplicationBook_incompleteLastEntry_entrySkipped() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        storage.saveApplicationBook(original);
+        ApplicationBook expected = new ApplicationBook(original);
+
+        original.addApplication(GOOGLE);
+        storage.saveApplicationBook(original);
+        List<String> lines = Files.readAllLines(journalFilePath, UTF_8);
+        String lastLine = lines.get(lines.size() - 1);
+        lines.set(lines.size() - 1, lastLine.substring(0, lastLine.length() / 2));
+        Files.write(journalFilePath, lines, UTF_8);
+
+        JournalApplicationBookStorage recoveredStorage = new JournalApplicationBookStorage(filePath);
+        ApplicationBook recovered = new ApplicationBook(recoveredStorage.readApplicationBook().get());
+        assertEquals(expected, recovered);
+
+        // the damaged journal is compacted away by the next save
+        recovered.addApplication(FACEBOOK);
+        recoveredStorage.saveApplicationBook(recovered);
+        assertEquals(recovered, new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void saveApplicationBook_incompleteEntryAfterFailedAppend_entryCutOff() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        storage.saveApplicationBook(original);
+        original.addApplication(GOOGLE);
+        storage.saveApplicationBook(original);
+
+        // an append that failed part way
+        Files.write(journalFilePath, "{\"added\":[".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        original.addApplication(FACEBOOK);
+        storage.saveApplicationBook(original);
+        assertEquals(3, Files.readAllLines(journalFilePath, UTF_8).size());
+        assertEquals(original, new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void readApplicationBook_corruptEntryBeforeLast_throwsDataConversionException() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        storage.saveApplicationBook(original);
+        Files.write(journalFilePath, "not json\n{}\n".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataConversionException.class, () -> new JournalApplicationBookStorage(filePath)
+                .readApplicationBook());
+    }
+
+    @Test
+    public void readApplicationBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        storage.saveApplicationBook(original);
+        original.addApplication(GOOGLE);
+        storage.saveApplicationBook(original);
+        List<String> staleJournal = Files.readAllLines(journalFilePath, UTF_8);
+
+        // simulate a compaction interrupted after the snapshot was replaced
+        ApplicationBook compacted = getTypicalApplicationBook();
+        new JournalApplicationBookStorage(filePath).saveApplicationBook(compacted);
+        Files.write(journalFilePath, staleJournal, UTF_8);
+
+        assertEquals(compacted, new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void readApplicationBook_plainJsonFile_success() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        new JsonApplicationBookStorage(filePath).saveApplicationBook(original);
+
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        assertEquals(original, new ApplicationBook(storage.readApplicationBook().get()));
+
+        original.addApplication(GOOGLE);
+        storage.saveApplicationBook(original);
+        assertEquals(original, new ApplicationBook(new JsonApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void foldJournalInto_journal_changesSavedAndJournalDeleted() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        storage.saveApplicationBook(original);
+        original.addApplication(GOOGLE);
+        storage.saveApplicationBook(original);
+
+        assertTrue(JournalApplicationBookStorage.foldJournalInto(filePath, new JsonApplicationBookStorage(filePath)));
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new ApplicationBook(new JsonApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void foldJournalInto_noJournal_returnsFalse() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        new JsonApplicationBookStorage(filePath).saveApplicationBook(original);
+
+        assertFalse(JournalApplicationBookStorage.foldJournalInto(filePath, new JsonApplicationBookStorage(filePath)));
+        assertEquals(original, new ApplicationBook(new JsonApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+    @Test
+    public void readApplicationBook_binaryFile_replacedBySnapshotOnSave() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        new BinaryApplicationBookStorage(filePath).saveApplicationBook(original);
+
+        JournalApplicationBookStorage storage = new JournalApplicationBookStorage(filePath);
+        assertEquals(original, new ApplicationBook(storage.readApplicationBook().get()));
+
+        original.addApplication(GOOGLE);
+        storage.saveApplicationBook(original);
+        assertFalse(BinaryApplicationBookStorage.isBinaryFormat(filePath));
+        assertEquals(original, new ApplicationBook(new JournalApplicationBookStorage(filePath)
+                .readApplicationBook().get()));
+    }
+
+}
@@ -16,8 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.application.commons.exceptions.DataConversionException;
+import seedu.application.commons.util.FileUtil;
+import seedu.application.commons.util.JsonUtil;
 import seedu.application.model.ApplicationBook;
 import seedu.application.model.ReadOnlyApplicationBook;
+import seedu.application.model.application.Contact;
 
 public class JsonApplicationBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonApplicationBookStorageTest");
@@ -64,6 +67,38 @@ public class JsonApplicationBookStorageTest {
                 "invalidAndValidApplicationApplicationBook.json"));
     }
 
+    @Test
+    public void readApplicationBook_invalidApplication_positionReported() {
+        DataConversionException exception = assertThrows(DataConversionException.class, () -> readApplicationBook(
+                "invalidAndValidApplicationApplicationBook.json"));
+        assertEquals(String.format(JsonSerializableApplicationBook.MESSAGE_INVALID_APPLICATION, 2, 8, 6,
+                Contact.MESSAGE_CONSTRAINTS), exception.getCause().getMessage());
+    }
+
+    @Test
+    public void readApplicationBook_skippingInvalidApplications_validApplicationsRead() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidAndValidApplicationApplicationBook.json");
+        ReadOnlyApplicationBook readBack = new JsonApplicationBookStorage(filePath, false, true)
+                .readApplicationBook().get();
+        assertEquals(1, readBack.getApplicationList().size());
+        assertEquals("Valid Application", readBack.getApplicationList().get(0).getCompany().company);
+    }
+
+    @Test
+    public void readApplicationBook_binaryFile_convertedLosslessly() throws Exception {
+        Path filePath = testFolder.resolve("TempApplicationBook.json");
+        ApplicationBook original = getTypicalApplicationBook();
+        new BinaryApplicationBookStorage(filePath).saveApplicationBook(original);
+
+        JsonApplicationBookStorage storage = new JsonApplicationBookStorage(filePath);
+        assertEquals(original, new ApplicationBook(storage.readApplicationBook().get()));
+
+        // binary to json
+        storage.saveApplicationBook(storage.readApplicationBook().get());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableApplicationBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
     @Test
     public void readAndSaveApplicationBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempApplicationBook.json");
@@ -90,6 +125,27 @@ public class JsonApplicationBookStorageTest {
 
     }
 
+    @Test
+    public void saveApplicationBook_prettyPrinted_sameAsSerializedApplicationBook() throws Exception {
+        Path filePath = testFolder.resolve("TempApplicationBook.json");
+        ApplicationBook original = getTypicalApplicationBook();
+        new JsonApplicationBookStorage(filePath).saveApplicationBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableApplicationBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveApplicationBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempApplicationBook.json");
+        ApplicationBook original = getTypicalApplicationBook();
+        JsonApplicationBookStorage jsonApplicationBookStorage = new JsonApplicationBookStorage(filePath, true, false);
+
+        jsonApplicationBookStorage.saveApplicationBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new ApplicationBook(jsonApplicationBookStorage.readApplicationBook().get()));
+    }
+
     @Test
     public void saveApplicationBook_nullApplicationBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveApplicationBook(null, "SomeFile.json"));
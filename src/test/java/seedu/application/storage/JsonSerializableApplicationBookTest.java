@@ -8,6 +8,7 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.application.commons.exceptions.DataConversionException;
 import seedu.application.commons.exceptions.IllegalValueException;
 import seedu.application.commons.util.JsonUtil;
 import seedu.application.model.ApplicationBook;
@@ -48,4 +49,24 @@ public class JsonSerializableApplicationBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readFrom_typicalApplicationsFile_success() throws Exception {
+        ApplicationBook applicationBookFromFile = JsonUtil.readJsonFile(TYPICAL_APPLICATIONS_FILE,
+                parser -> JsonSerializableApplicationBook.readFrom(parser, false)).get();
+        assertEquals(TypicalApplications.getTypicalApplicationBook(), applicationBookFromFile);
+    }
+
+    @Test
+    public void readFrom_duplicateApplication_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonUtil.readJsonFile(DUPLICATE_APPLICATION_FILE,
+                parser -> JsonSerializableApplicationBook.readFrom(parser, false)));
+    }
+
+    @Test
+    public void readFrom_skippingInvalidApplications_duplicateSkipped() throws Exception {
+        ApplicationBook applicationBookFromFile = JsonUtil.readJsonFile(DUPLICATE_APPLICATION_FILE,
+                parser -> JsonSerializableApplicationBook.readFrom(parser, true)).get();
+        assertEquals(1, applicationBookFromFile.getApplicationList().size());
+    }
+
 }
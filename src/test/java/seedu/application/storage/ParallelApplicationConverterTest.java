@@ -0,0 +1,68 @@
+package seedu.application.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.application.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.application.commons.exceptions.IllegalValueException;
+import seedu.application.model.application.Application;
+import seedu.application.model.application.Contact;
+import seedu.application.testutil.ApplicationBuilder;
+
+public class ParallelApplicationConverterTest {
+
+    private static final int APPLICATION_COUNT = ParallelApplicationConverter.PARALLEL_THRESHOLD * 4;
+
+    @Test
+    public void convertAllOrThrow_manyApplications_convertedInOrder() throws Exception {
+        List<Application> expected = new ArrayList<>();
+        List<JsonAdaptedApplication> sources = new ArrayList<>();
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            Application application = new ApplicationBuilder().withCompany("Company " + i).build();
+            expected.add(application);
+            sources.add(new JsonAdaptedApplication(application));
+        }
+
+        assertEquals(expected, ParallelApplicationConverter.convertAllOrThrow(sources,
+                JsonAdaptedApplication::toModelType));
+    }
+
+    @Test
+    public void convertAllOrThrow_invalidApplications_firstInvalidApplicationThrown() {
+        List<JsonAdaptedApplication> sources = new ArrayList<>();
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            String contact = i == APPLICATION_COUNT / 2 ? "invalid contact" : ApplicationBuilder.DEFAULT_CONTACT;
+            String company = i == APPLICATION_COUNT - 1 ? "invalid company!" : "Company " + i;
+            sources.add(new JsonAdaptedApplication(company, contact, ApplicationBuilder.DEFAULT_EMAIL,
+                    ApplicationBuilder.DEFAULT_POSITION, ApplicationBuilder.DEFAULT_DATE));
+        }
+
+        assertThrows(IllegalValueException.class, Contact.MESSAGE_CONSTRAINTS, () ->
+                ParallelApplicationConverter.convertAllOrThrow(sources, JsonAdaptedApplication::toModelType));
+    }
+
+    @Test
+    public void convertAll_invalidApplication_otherApplicationsConverted() throws Exception {
+        List<Application> sources = new ArrayList<>();
+        sources.add(new ApplicationBuilder().withCompany("Google").build());
+        sources.add(null);
+        sources.add(new ApplicationBuilder().withCompany("Shopee").build());
+        ParallelApplicationConverter.Conversion<Application> conversion = application -> {
+            if (application == null) {
+                throw new IllegalValueException("missing application");
+            }
+            return application;
+        };
+        List<ParallelApplicationConverter.Result> results = ParallelApplicationConverter.convertAll(sources,
+                conversion);
+
+        assertEquals(sources.get(0), results.get(0).get());
+        assertThrows(IllegalValueException.class, "missing application", () -> results.get(1).get());
+        assertEquals(sources.get(2), results.get(2).get());
+    }
+
+}
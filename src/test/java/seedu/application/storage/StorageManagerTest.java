@@ -1,9 +1,12 @@
 package seedu.application.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
 import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +63,22 @@ public class StorageManagerTest {
         assertEquals(original, new ApplicationBook(retrieved));
     }
 
+    @Test
+    public void saveApplicationBook_unchangedSinceLastSave_skipsWrite() throws Exception {
+        ApplicationBook original = getTypicalApplicationBook();
+        applicationStorageManager.saveApplicationBook(original);
+        Files.delete(applicationStorageManager.getApplicationBookFilePath());
+
+        // same version -> not written again
+        applicationStorageManager.saveApplicationBook(original);
+        assertFalse(Files.exists(applicationStorageManager.getApplicationBookFilePath()));
+
+        // changed version -> written
+        original.addApplication(GOOGLE);
+        applicationStorageManager.saveApplicationBook(original);
+        assertEquals(original, new ApplicationBook(applicationStorageManager.readApplicationBook().get()));
+    }
+
     @Test
     public void getApplicationBookFilePath() {
         assertNotNull(applicationStorageManager.getApplicationBookFilePath());
@@ -0,0 +1,120 @@
+package seedu.application.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.application.testutil.Assert.assertThrows;
+import static seedu.application.testutil.TypicalApplications.FACEBOOK;
+import static seedu.application.testutil.TypicalApplications.GOOGLE;
+import static seedu.application.testutil.TypicalApplications.getTypicalApplicationBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.application.model.ApplicationBook;
+import seedu.application.model.ReadOnlyApplicationBook;
+
+public class WriteBehindApplicationBookSaverTest {
+
+    private static final long LONG_LATENCY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindApplicationBookSaver(null, 0));
+    }
+
+    @Test
+    public void constructor_negativeLatency_throwsIllegalArgumentException() {
+        JsonApplicationBookStorage storage = new JsonApplicationBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindApplicationBookSaver(storage, -1));
+    }
+
+    @Test
+    public void flush_burstOfRequests_savesLatestStateOnce() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindApplicationBookSaver saver = new WriteBehindApplicationBookSaver(storage, LONG_LATENCY_MILLIS);
+        ApplicationBook applicationBook = getTypicalApplicationBook();
+
+        saver.requestSave(applicationBook);
+        applicationBook.addApplication(GOOGLE);
+        saver.requestSave(applicationBook);
+        applicationBook.addApplication(FACEBOOK);
+        saver.requestSave(applicationBook);
+        saver.flush();
+
+        assertEquals(1, storage.saveCount);
+        assertEquals(applicationBook, new ApplicationBook(storage.readApplicationBook().get()));
+    }
+
+    @Test
+    public void requestSave_changedAfterRequest_savesStateAtRequestTime() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindApplicationBookSaver saver = new WriteBehindApplicationBookSaver(storage, LONG_LATENCY_MILLIS);
+        ApplicationBook applicationBook = getTypicalApplicationBook();
+
+        saver.requestSave(applicationBook);
+        applicationBook.addApplication(GOOGLE);
+        saver.flush();
+
+        assertEquals(getTypicalApplicationBook(), new ApplicationBook(storage.readApplicationBook().get()));
+    }
+
+    @Test
+    public void flush_noPendingRequest_doesNotSave() throws Exception {
+        CountingStorageStub storage = new CountingStorageStub(testFolder.resolve("ab.json"));
+        WriteBehindApplicationBookSaver saver = new WriteBehindApplicationBookSaver(storage, 0);
+        saver.flush();
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void flush_backgroundSaveFailed_throwsIoExceptionOnce() throws Exception {
+        IOException failure = new IOException("dummy exception");
+        WriteBehindApplicationBookSaver saver = new WriteBehindApplicationBookSaver(
+                new IoExceptionThrowingStorageStub(testFolder.resolve("ab.json"), failure), LONG_LATENCY_MILLIS);
+
+        saver.requestSave(getTypicalApplicationBook());
+        assertThrows(IOException.class, failure.getMessage(), saver::flush);
+
+        // the failure has been reported, so the next flush succeeds
+        saver.flush();
+    }
+
+    /**
+     * A stub that counts the number of times the application book is saved.
+     */
+    private static class CountingStorageStub extends JsonApplicationBookStorage {
+        private int saveCount;
+
+        private CountingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveApplicationBook(ReadOnlyApplicationBook applicationBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveApplicationBook(applicationBook, filePath);
+        }
+    }
+
+    /**
+     * A stub that throws the given {@code IOException} when the save method is called.
+     */
+    private static class IoExceptionThrowingStorageStub extends JsonApplicationBookStorage {
+        private final IOException failure;
+
+        private IoExceptionThrowingStorageStub(Path filePath, IOException failure) {
+            super(filePath);
+            this.failure = failure;
+        }
+
+        @Override
+        public void saveApplicationBook(ReadOnlyApplicationBook applicationBook, Path filePath) throws IOException {
+            throw failure;
+        }
+    }
+}